@@ -0,0 +1,169 @@
+package com.skykimpro.chingu;
+
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.domain.Tag;
+import com.skykimpro.chingu.domain.Zone;
+import com.skykimpro.chingu.study.StudyRepository;
+import com.skykimpro.chingu.tag.TagRepository;
+import com.skykimpro.chingu.tag.TagIndex;
+import com.skykimpro.chingu.zone.ZoneDataLoader;
+import com.skykimpro.chingu.zone.ZoneRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크용 애플리케이션. 내장 H2에 운영과 비슷한 양의 데이터를 넣고 한 번만 띄운다.
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    public static final int ACCOUNTS = 5_000;
+
+    public static final int TAGS = 2_000;
+
+    public static final int STUDIES = 500;
+
+    public static final int MEMBERS_PER_STUDY = 50;
+
+    public static final int TAGS_PER_ACCOUNT = 10;
+
+    public static final int TAGS_PER_STUDY = 5;
+
+    public static final int ZONES_PER_STUDY = 3;
+
+    private static final int FLUSH_SIZE = 500;
+
+    public ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        context = new SpringApplicationBuilder(ChinguApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:chingu-jmh;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.devtools.restart.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "app.mail-poll-interval=3600000",
+                        "app.image-dir=" + Files.createTempDirectory("chingu-jmh-images"))
+                .run();
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public static String nickname(int i) {
+        return "user" + i;
+    }
+
+    public static String email(int i) {
+        return "user" + i + "@email.com";
+    }
+
+    public static String tagTitle(int i) {
+        return "tag" + i;
+    }
+
+    public static String studyPath(int i) {
+        return "study-" + i;
+    }
+
+    public static int random(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    private void seed() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(getBean(PlatformTransactionManager.class));
+        EntityManager entityManager = getBean(EntityManager.class);
+        String password = getBean(PasswordEncoder.class).encode("12345678");
+        getBean(ZoneDataLoader.class).whenLoaded().join();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Tag> tags = new ArrayList<>();
+            for (int i = 0; i < TAGS; i++) {
+                tags.add(getBean(TagRepository.class).save(Tag.builder().title(tagTitle(i)).build()));
+            }
+            List<Zone> zones = getBean(ZoneRepository.class).findAll();
+
+            List<Account> accounts = new ArrayList<>();
+            AccountRepository accountRepository = getBean(AccountRepository.class);
+            for (int i = 0; i < ACCOUNTS; i++) {
+                Account account = new Account();
+                account.setNickname(nickname(i));
+                account.setEmail(email(i));
+                account.setPassword(password);
+                account.generateEmailCheckToken();
+                account.completeSignUp();
+                account.setBio("자기소개 " + i);
+                for (int t = 0; t < TAGS_PER_ACCOUNT; t++) {
+                    account.getTags().add(tags.get((i + t * 7) % TAGS));
+                }
+                account.getZones().add(zones.get(i % zones.size()));
+                accounts.add(accountRepository.save(account));
+                flushPeriodically(entityManager, i);
+            }
+
+            StudyRepository studyRepository = getBean(StudyRepository.class);
+            for (int i = 0; i < STUDIES; i++) {
+                Study study = new Study();
+                study.setPath(studyPath(i));
+                study.setTitle("동아리 " + i);
+                study.setShortDescription("짧은 소개 " + i);
+                study.setFullDescription("<p>" + "자세한 소개 ".repeat(200) + "</p>");
+                study.setPublished(true);
+                study.setPublishedDateTime(LocalDateTime.now());
+                study.setRecruiting(true);
+                study.addManager(entityManager.getReference(Account.class, accounts.get(i % ACCOUNTS).getId()));
+                for (int m = 1; m <= MEMBERS_PER_STUDY; m++) {
+                    study.getMembers().add(entityManager.getReference(Account.class, accounts.get((i + m * 13) % ACCOUNTS).getId()));
+                }
+                for (int t = 0; t < TAGS_PER_STUDY; t++) {
+                    study.getTags().add(entityManager.getReference(Tag.class, tags.get((i + t) % TAGS).getId()));
+                }
+                for (int z = 0; z < ZONES_PER_STUDY; z++) {
+                    study.getZones().add(zones.get((i + z) % zones.size()));
+                }
+                studyRepository.save(study);
+                flushPeriodically(entityManager, i);
+            }
+        });
+
+        // 태그 색인은 시작할 때 채우므로 넣은 태그를 다시 읽어 들인다.
+        getBean(TagIndex.class).load();
+    }
+
+    private void flushPeriodically(EntityManager entityManager, int i) {
+        if (i % FLUSH_SIZE == FLUSH_SIZE - 1) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+}
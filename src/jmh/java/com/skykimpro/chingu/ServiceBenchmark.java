@@ -0,0 +1,86 @@
+package com.skykimpro.chingu;
+
+import com.skykimpro.chingu.account.AccountMapper;
+import com.skykimpro.chingu.account.AccountService;
+import com.skykimpro.chingu.account.SignUpForm;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.domain.Tag;
+import com.skykimpro.chingu.settings.form.Profile;
+import com.skykimpro.chingu.study.StudyService;
+import com.skykimpro.chingu.tag.TagService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.skykimpro.chingu.SeededApplication.*;
+
+/**
+ * 요청마다 실행되는 서비스 호출과 폼 매핑 비용.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    private AccountService accountService;
+
+    private StudyService studyService;
+
+    private TagService tagService;
+
+    private AccountMapper accountMapper;
+
+    @Setup
+    public void setup(SeededApplication application) {
+        accountService = application.getBean(AccountService.class);
+        studyService = application.getBean(StudyService.class);
+        tagService = application.getBean(TagService.class);
+        accountMapper = application.getBean(AccountMapper.class);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByNickname() {
+        return accountService.loadUserByUsername(nickname(random(ACCOUNTS)));
+    }
+
+    @Benchmark
+    public UserDetails loadUserByEmail() {
+        return accountService.loadUserByUsername(email(random(ACCOUNTS)));
+    }
+
+    @Benchmark
+    public Study getStudy() {
+        return studyService.getStudy(studyPath(random(STUDIES)));
+    }
+
+    @Benchmark
+    public Tag findOrCreateNew_existing() {
+        return tagService.findOrCreateNew(tagTitle(random(TAGS)));
+    }
+
+    @Benchmark
+    public Account mapSignUpForm() {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname("newuser");
+        signUpForm.setEmail("newuser@email.com");
+        signUpForm.setPassword("12345678");
+        return accountMapper.toAccount(signUpForm);
+    }
+
+    @Benchmark
+    public Account mapProfile() {
+        Profile profile = new Profile();
+        profile.setBio("자기소개");
+        profile.setUrl("https://chingu.example.com");
+        profile.setOccupation("개발자");
+        profile.setLocation("서울");
+        Account account = new Account();
+        accountMapper.updateProfile(profile, account);
+        return account;
+    }
+}
@@ -0,0 +1,129 @@
+package com.skykimpro.chingu;
+
+import com.skykimpro.chingu.account.AccountService;
+import com.skykimpro.chingu.account.UserAccount;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Tag;
+import com.skykimpro.chingu.study.StudyService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.support.RequestContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring5.ISpringTemplateEngine;
+import org.thymeleaf.spring5.context.webmvc.SpringWebMvcThymeleafRequestContext;
+import org.thymeleaf.spring5.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.spring5.naming.SpringContextVariableNames;
+
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.skykimpro.chingu.SeededApplication.*;
+
+/**
+ * 화면 하나를 만드는 전체 비용. 컨트롤러처럼 조회하고, ThymeleafView 와 같은 변수를 넣어서 렌더링한다.
+ * open-in-view 와 같도록 조회와 렌더링을 한 트랜잭션 안에서 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class ViewRenderingBenchmark {
+
+    private ApplicationContext applicationContext;
+
+    private ISpringTemplateEngine templateEngine;
+
+    private TransactionTemplate transactionTemplate;
+
+    private AccountService accountService;
+
+    private StudyService studyService;
+
+    private MockServletContext servletContext;
+
+    @Setup
+    public void setup(SeededApplication application) {
+        applicationContext = application.context;
+        templateEngine = application.getBean(ISpringTemplateEngine.class);
+        transactionTemplate = new TransactionTemplate(application.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        accountService = application.getBean(AccountService.class);
+        studyService = application.getBean(StudyService.class);
+
+        servletContext = new MockServletContext();
+        servletContext.setAttribute(WebApplicationContext.ROOT_WEB_APPLICATION_CONTEXT_ATTRIBUTE, applicationContext);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void studyView() {
+        int user = random(ACCOUNTS);
+        String path = studyPath(random(STUDIES));
+        transactionTemplate.executeWithoutResult(status -> {
+            Account account = login(user);
+            Map<String, Object> model = new HashMap<>();
+            model.put("account", account);
+            model.put("study", studyService.getStudy(path));
+            render("study/view", "/study/" + path, model);
+        });
+    }
+
+    @Benchmark
+    public void settingsTags() {
+        int user = random(ACCOUNTS);
+        transactionTemplate.executeWithoutResult(status -> {
+            Account account = login(user);
+            Map<String, Object> model = new HashMap<>();
+            model.put("account", account);
+            model.put("tags", accountService.getTags(account).stream().map(Tag::getTitle).collect(Collectors.toList()));
+            render("settings/tags", "/settings/tags", model);
+        });
+    }
+
+    private Account login(int user) {
+        UserAccount userAccount = (UserAccount) accountService.loadUserByUsername(nickname(user));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userAccount, null, userAccount.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return accountService.getCurrentAccount(userAccount);
+    }
+
+    private void render(String template, String uri, Map<String, Object> model) {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CsrfToken csrfToken = new DefaultCsrfToken("X-CSRF-TOKEN", "_csrf", "benchmark-token");
+        request.setAttribute(CsrfToken.class.getName(), csrfToken);
+        request.setAttribute(csrfToken.getParameterName(), csrfToken);
+
+        RequestContext requestContext = new RequestContext(request, response, servletContext, model);
+        model.put(SpringContextVariableNames.SPRING_REQUEST_CONTEXT, requestContext);
+        model.put(SpringContextVariableNames.THYMELEAF_REQUEST_CONTEXT,
+                new SpringWebMvcThymeleafRequestContext(requestContext, request));
+        model.put(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+                new ThymeleafEvaluationContext(applicationContext, (ConversionService) null));
+
+        WebContext context = new WebContext(request, response, servletContext, Locale.KOREAN, model);
+        templateEngine.process(template, context, Writer.nullWriter());
+    }
+}
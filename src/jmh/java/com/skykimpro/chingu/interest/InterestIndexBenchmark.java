@@ -0,0 +1,92 @@
+package com.skykimpro.chingu.interest;
+
+import org.openjdk.jmh.annotations.*;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계정 100만, 태그 1000개, 지역 85개 규모에서 "이 동아리의 태그 중 하나, 지역 중 하나에 관심 있는 계정" 을 찾는 비용.
+ * scan 은 조인 테이블을 계정 순서로 훑는 것과 같은 조건이고, 태그는 앞쪽 번호일수록 많이 쓰이게 만들었다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class InterestIndexBenchmark {
+
+    private static final int ACCOUNTS = 1_000_000;
+    private static final int TAGS = 1_000;
+    private static final int ZONES = 85;
+    private static final int TAGS_PER_ITEM = 3;
+
+    private PostingLists accountsByTag;
+    private PostingLists accountsByZone;
+
+    private long[][] accountTags;
+    private long[] accountZones;
+
+    private List<Long> studyTags;
+    private List<Long> studyZones;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        accountsByTag = new PostingLists();
+        accountsByZone = new PostingLists();
+        accountTags = new long[ACCOUNTS][];
+        accountZones = new long[ACCOUNTS];
+
+        for (int account = 0; account < ACCOUNTS; account++) {
+            accountTags[account] = new long[TAGS_PER_ITEM];
+            for (int i = 0; i < TAGS_PER_ITEM; i++) {
+                long tag = skewed(random, TAGS);
+                accountTags[account][i] = tag;
+                accountsByTag.add(tag, account);
+            }
+            accountZones[account] = random.nextInt(ZONES);
+            accountsByZone.add(accountZones[account], account);
+        }
+        accountsByTag.optimize();
+        accountsByZone.optimize();
+
+        studyTags = List.of(3L, 40L, 500L);
+        studyZones = List.of(7L);
+    }
+
+    @Benchmark
+    public long bitmapAccountsForStudy() {
+        Roaring64NavigableMap result = accountsByTag.any(studyTags);
+        result.and(accountsByZone.any(studyZones));
+        return result.getLongCardinality();
+    }
+
+    @Benchmark
+    public long scanAccountsForStudy() {
+        long count = 0;
+        for (int account = 0; account < ACCOUNTS; account++) {
+            if (studyZones.contains(accountZones[account]) && matchesAny(accountTags[account])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean matchesAny(long[] tags) {
+        for (long tag : tags) {
+            if (studyTags.contains(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long skewed(Random random, int bound) {
+        double r = random.nextDouble();
+        return (long) (bound * r * r);
+    }
+}
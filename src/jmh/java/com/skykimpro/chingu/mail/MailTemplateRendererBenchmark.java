@@ -0,0 +1,80 @@
+package com.skykimpro.chingu.mail;
+
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 한 통을 렌더링하는 비용. uncached 는 템플릿 캐시를 끈 웹 엔진(개발 모드)과 같은 조건이다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MailTemplateRendererBenchmark {
+
+    private static final int RECIPIENTS = 100;
+
+    private MailTemplateRenderer renderer;
+
+    private TemplateEngine uncachedEngine;
+
+    private List<Map<String, Object>> recipients;
+
+    @Setup
+    public void setup() {
+        renderer = new MailTemplateRenderer();
+
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(false);
+        SpringTemplateEngine springTemplateEngine = new SpringTemplateEngine();
+        springTemplateEngine.setTemplateResolver(templateResolver);
+        uncachedEngine = springTemplateEngine;
+
+        recipients = new ArrayList<>();
+        for (int i = 0; i < RECIPIENTS; i++) {
+            recipients.add(variables("user" + i));
+        }
+    }
+
+    @Benchmark
+    public String uncached() {
+        Context context = new Context();
+        context.setVariables(recipients.get(0));
+        return uncachedEngine.process("mail/simple-link", context);
+    }
+
+    @Benchmark
+    public String render() {
+        return renderer.render("mail/simple-link", recipients.get(0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECIPIENTS)
+    public List<String> renderAll() {
+        return renderer.renderAll("mail/simple-link", recipients);
+    }
+
+    private Map<String, Object> variables(String nickname) {
+        return Map.of(
+                "link", "/check-email-token?token=" + nickname + "&email=" + nickname + "@email.com",
+                "nickname", nickname,
+                "linkName", "이메일 인증하기",
+                "message", "Chingu 서비스를 이용하려면 링크를 클릭하세요.",
+                "host", "http://localhost:8080");
+    }
+}
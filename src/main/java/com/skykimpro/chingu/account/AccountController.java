@@ -2,6 +2,7 @@ package com.skykimpro.chingu.account;
 
 import com.skykimpro.chingu.domain.Account;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
@@ -37,7 +38,18 @@ public class AccountController {
             return "account/sign-up";
         }
 
-        Account account = accountService.processNewAccount(signUpForm);
+        Account account;
+        try {
+            account = accountService.processNewAccount(signUpForm);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버에서 먼저 가입한 값은 이 서버의 블룸 필터에 없어서 검증을 통과할 수 있다.
+            // 저장하기 전에 필터에 넣었으므로 다시 검증하면 DB 로 확인해서 어느 값이 겹쳤는지 알려준다.
+            signUpFormValidator.validate(signUpForm, errors);
+            if (!errors.hasErrors()) {
+                throw e;
+            }
+            return "account/sign-up";
+        }
         accountService.login(account);
         return "redirect:/";
     }
@@ -0,0 +1,22 @@
+package com.skykimpro.chingu.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로그인에 필요한 컬럼만 담은 Account 프로젝션. 태그, 지역 같은 연관관계와 프로필 정보는 읽지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccountCredentials {
+
+    private final Long id;
+
+    private final String email;
+
+    private final String nickname;
+
+    private final String password;
+
+    private final boolean emailVerified;
+}
@@ -0,0 +1,32 @@
+package com.skykimpro.chingu.account;
+
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.settings.form.NicknameForm;
+import com.skykimpro.chingu.settings.form.Notifications;
+import com.skykimpro.chingu.settings.form.Profile;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Account와 폼 사이의 매핑. 컴파일할 때 구현체(AccountMapperImpl)가 생성되므로 실행 중에 리플렉션을 쓰지 않는다.
+ * 빌더 대신 기본 생성자를 써야 필드 기본값(studyCreatedByWeb = true 등)이 유지된다.
+ */
+@Mapper(componentModel = "spring",
+        builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface AccountMapper {
+
+    Account toAccount(SignUpForm signUpForm);
+
+    Profile toProfile(Account account);
+
+    Notifications toNotifications(Account account);
+
+    NicknameForm toNicknameForm(Account account);
+
+    void updateProfile(Profile profile, @MappingTarget Account account);
+
+    void updateNotifications(Notifications notifications, @MappingTarget Account account);
+}
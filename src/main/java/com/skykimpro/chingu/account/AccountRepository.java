@@ -2,8 +2,12 @@ package com.skykimpro.chingu.account;
 
 import com.skykimpro.chingu.domain.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Transactional(readOnly=true)
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
@@ -14,4 +18,20 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Account findByEmail(String email);
 
     Account findByNickname(String nickname);
+
+    @Query("select a.email, a.nickname from Account a")
+    List<Object[]> findAllEmailsAndNicknames();
+
+    /**
+     * 이메일과 닉네임의 유니크 인덱스를 한 번에 타는 로그인 조회. 엔티티 대신 로그인에 필요한 컬럼만 읽는다.
+     */
+    @Query("select new com.skykimpro.chingu.account.AccountCredentials(a.id, a.email, a.nickname, a.password, a.emailVerified) " +
+            "from Account a where a.email = :username or a.nickname = :username")
+    List<AccountCredentials> findCredentials(@Param("username") String emailOrNickname);
+
+    @Query("select t.id from Account a join a.tags t where a.id = :id")
+    List<Long> findTagIds(@Param("id") Long id);
+
+    @Query("select z.id from Account a join a.zones z where a.id = :id")
+    List<Long> findZoneIds(@Param("id") Long id);
 }
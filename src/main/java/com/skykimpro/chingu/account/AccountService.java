@@ -1,16 +1,20 @@
 package com.skykimpro.chingu.account;
 
+import com.skykimpro.chingu.availability.AvailabilityIndex;
 import com.skykimpro.chingu.config.AppProperties;
 import com.skykimpro.chingu.domain.Account;
 import com.skykimpro.chingu.domain.Tag;
 import com.skykimpro.chingu.domain.Zone;
+import com.skykimpro.chingu.image.ImageService;
+import com.skykimpro.chingu.interest.InterestIndex;
 import com.skykimpro.chingu.mail.EmailMessage;
 import com.skykimpro.chingu.mail.EmailService;
+import com.skykimpro.chingu.mail.MailTemplateRenderer;
+import com.skykimpro.chingu.main.HomeFeedService;
 import com.skykimpro.chingu.settings.form.Notifications;
 import com.skykimpro.chingu.settings.form.Profile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -18,33 +22,37 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
-public class AccountService implements UserDetailsService {
+public class AccountService implements UserDetailsService, UserDetailsPasswordService {
 
     private final PasswordEncoder passwordEncoder;
     private final AccountRepository accountRepository;
     private final EmailService emailService;
-    private final ModelMapper modelMapper;
-    private final TemplateEngine templateEngine;
+    private final AccountMapper accountMapper;
+    private final MailTemplateRenderer mailTemplateRenderer;
     private final AppProperties appProperties;
+    private final ImageService imageService;
+    private final LoginMissCache loginMissCache;
+    private final AvailabilityIndex availabilityIndex;
+    private final HomeFeedService homeFeedService;
+    private final InterestIndex interestIndex;
 
     public Account processNewAccount(SignUpForm signUpForm) {
         Account newAccount = saveNewAccount(signUpForm);
@@ -54,20 +62,20 @@ public class AccountService implements UserDetailsService {
 
     private Account saveNewAccount(SignUpForm signUpForm) {
         signUpForm.setPassword(passwordEncoder.encode(signUpForm.getPassword()));
-        Account account = modelMapper.map(signUpForm, Account.class);
+        Account account = accountMapper.toAccount(signUpForm);
         account.generateEmailCheckToken();
+        loginMissCache.forget(account.getEmail(), account.getNickname());
+        availabilityIndex.addAccount(account.getEmail(), account.getNickname());
         return accountRepository.save(account);
     }
 
     public void sendSignUpConfirmEmail(Account newAccount) {
-        Context context = new Context();
-        context.setVariable("link", "/check-email-token?token=" + newAccount.getEmailCheckToken() +
-                "&email=" + newAccount.getEmail());
-        context.setVariable("nickname", newAccount.getNickname());
-        context.setVariable("linkName", "이메일 인증하기");
-        context.setVariable("message", "Chingu 서비스를 이용하려면 링크를 클릭하세요.");
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        String message = mailTemplateRenderer.render("mail/simple-link", Map.of(
+                "link", "/check-email-token?token=" + newAccount.getEmailCheckToken() + "&email=" + newAccount.getEmail(),
+                "nickname", newAccount.getNickname(),
+                "linkName", "이메일 인증하기",
+                "message", "Chingu 서비스를 이용하려면 링크를 클릭하세요.",
+                "host", appProperties.getHost()));
 
         EmailMessage emailMessage = EmailMessage.builder()
                 .to(newAccount.getEmail())
@@ -89,17 +97,22 @@ public class AccountService implements UserDetailsService {
     @Transactional(readOnly = true)
     @Override
     public UserDetails loadUserByUsername(String emailOrNickname) throws UsernameNotFoundException {
-        Account account = accountRepository.findByEmail(emailOrNickname);
-        if(account == null)
-        {
-            account = accountRepository.findByNickname(emailOrNickname);
+        if(loginMissCache.isMiss(emailOrNickname)){
+            throw new UsernameNotFoundException(emailOrNickname);
         }
 
-        if(account == null){
+        List<AccountCredentials> candidates = accountRepository.findCredentials(emailOrNickname);
+        if(candidates.isEmpty()){
+            loginMissCache.recordMiss(emailOrNickname);
             throw new UsernameNotFoundException(emailOrNickname);
         }
 
-        return new UserAccount(account);
+        // 닉네임에는 @를 쓸 수 없어서 둘 다 걸리는 경우는 없지만, 혹시 그렇다면 이메일이 같은 계정을 우선한다.
+        AccountCredentials credentials = candidates.stream()
+                .filter(candidate -> emailOrNickname.equals(candidate.getEmail()))
+                .findFirst()
+                .orElse(candidates.get(0));
+        return new UserAccount(credentials);
     }
 
     public void completeSignUp(Account account) {
@@ -108,7 +121,8 @@ public class AccountService implements UserDetailsService {
     }
 
     public void updateProfile(Account account, Profile profile) {
-        modelMapper.map(profile, account);
+        profile.setProfileImage(imageService.store(profile.getProfileImage()));
+        accountMapper.updateProfile(profile, account);
         accountRepository.save(account);
     }
 
@@ -117,26 +131,37 @@ public class AccountService implements UserDetailsService {
         accountRepository.save(account); // merge
     }
 
+    /**
+     * 로그인에 성공했는데 저장된 해시의 강도가 현재 설정보다 낮으면 스프링 시큐리티가 새로 해시한 값으로 호출한다.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Account account = accountRepository.findById(((UserAccount) user).getId())
+                .orElseThrow(() -> new UsernameNotFoundException(user.getUsername()));
+        account.setPassword(newPassword);
+        return new UserAccount(account);
+    }
+
     public void updateNotificatons(Account account, Notifications notifications) {
-        modelMapper.map(notifications, account);
+        accountMapper.updateNotifications(notifications, account);
         accountRepository.save(account); // merge
     }
 
     public void updateNickname(Account account, String nickname) {
         account.setNickname(nickname);
+        loginMissCache.forget(nickname);
+        availabilityIndex.addNickname(nickname);
         accountRepository.save(account); // merge
         login(account);
     }
 
     public void sendLoginLink(Account account) {
-        Context context = new Context();
-        context.setVariable("link", "/login-by-email?token=" + account.getEmailCheckToken() +
-                "&email="+account.getEmail());
-        context.setVariable("nickname", account.getNickname());
-        context.setVariable("linkName", "이메일로 로그인하기");
-        context.setVariable("message", "로그인 하려면 이용하려면 링크를 클릭하세요.");
-        context.setVariable("host", appProperties.getHost());
-        String message = templateEngine.process("mail/simple-link", context);
+        String message = mailTemplateRenderer.render("mail/simple-link", Map.of(
+                "link", "/login-by-email?token=" + account.getEmailCheckToken() + "&email=" + account.getEmail(),
+                "nickname", account.getNickname(),
+                "linkName", "이메일로 로그인하기",
+                "message", "로그인 하려면 이용하려면 링크를 클릭하세요.",
+                "host", appProperties.getHost()));
 
         EmailMessage emailMessage = EmailMessage.builder()
                 .to(account.getEmail())
@@ -148,33 +173,44 @@ public class AccountService implements UserDetailsService {
     }
 
     public void addTag(Account account, Tag tag) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getTags().add(tag));
+        account.getTags().add(tag);
+        interestIndex.addAccountTag(account.getId(), tag.getId());
+        homeFeedService.forget(account.getId());
     }
 
     public Set<Tag> getTags(Account account) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        return byId.orElseThrow().getTags();
+        return account.getTags();
     }
 
     public void removeTag(Account account, Tag tag) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getTags().remove(tag));
+        account.getTags().remove(tag);
+        interestIndex.removeAccountTag(account.getId(), tag.getId());
+        homeFeedService.forget(account.getId());
     }
 
     public Set<Zone> getZones(Account account) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        return byId.orElseThrow().getZones();
+        return account.getZones();
     }
 
     public void addZone(Account account, Zone zone) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getZones().add(zone));
+        account.getZones().add(zone);
+        interestIndex.addAccountZone(account.getId(), zone.getId());
+        homeFeedService.forget(account.getId());
     }
 
     public void removeZone(Account account, Zone zone) {
-        Optional<Account> byId = accountRepository.findById(account.getId());
-        byId.ifPresent(a -> a.getZones().remove(zone));
+        account.getZones().remove(zone);
+        interestIndex.removeAccountZone(account.getId(), zone.getId());
+        homeFeedService.forget(account.getId());
+    }
+
+    /**
+     * 세션의 UserAccount로 현재 요청에서 사용할 Account를 찾는다.
+     * 같은 요청 안에서는 영속성 컨텍스트가, 요청 사이에서는 2차 캐시가 조회를 대신한다.
+     * 읽기 전용 트랜잭션으로 읽으면 변경 감지가 꺼진 엔티티가 되므로 기본 트랜잭션을 사용한다.
+     */
+    public Account getCurrentAccount(UserAccount userAccount) {
+        return accountRepository.findById(userAccount.getId()).orElse(null);
     }
 
     public Account getAccount(String nickname){
@@ -0,0 +1,104 @@
+package com.skykimpro.chingu.account;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skykimpro.chingu.config.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * persistent_logins 테이블을 쓰는 remember-me 토큰 저장소.
+ * 시리즈별 토큰을 메모리에 들고 있어서 자동 로그인할 때 SELECT를 하지 않는다.
+ * 갱신은 바로 UPDATE 한다. PersistentTokenBasedRememberMeServices 는 자동 로그인할 때마다 새 토큰 값을 만들고,
+ * 이 값을 잃어버리면 다음 자동 로그인이 토큰 도용으로 판단되어 로그아웃되기 때문이다.
+ * 그래서 자동 로그인 한 번에 UPDATE 한 번은 그대로 남는다.
+ * 캐시는 서버마다 따로 있으므로 다른 서버가 같은 시리즈를 갱신하면 이 서버의 캐시는 예전 토큰을 들고 있게 된다.
+ * 여러 대로 운영할 때는 같은 사용자가 같은 서버로 가도록 라우팅한다.
+ */
+@Slf4j
+public class CachingTokenRepository implements PersistentTokenRepository {
+
+    static final String INSERT_SQL = "insert into persistent_logins (username, series, token, last_used) values (?, ?, ?, ?)";
+    static final String SELECT_SQL = "select username, series, token, last_used from persistent_logins where series = ?";
+    static final String UPDATE_SQL = "update persistent_logins set token = ?, last_used = ? where series = ?";
+    static final String DELETE_USER_SQL = "delete from persistent_logins where username = ?";
+    static final String DELETE_EXPIRED_SQL = "delete from persistent_logins where last_used < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Duration tokenValidity;
+
+    private final Cache<String, PersistentRememberMeToken> tokens;
+
+    public CachingTokenRepository(JdbcTemplate jdbcTemplate, AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tokenValidity = appProperties.getRememberMeTokenValidity();
+        this.tokens = Caffeine.newBuilder()
+                .expireAfterAccess(tokenValidity)
+                .maximumSize(appProperties.getRememberMeCacheSize())
+                .build();
+    }
+
+    @Override
+    public void createNewToken(PersistentRememberMeToken token) {
+        jdbcTemplate.update(INSERT_SQL, token.getUsername(), token.getSeries(), token.getTokenValue(),
+                new Timestamp(token.getDate().getTime()));
+        tokens.put(token.getSeries(), token);
+    }
+
+    @Override
+    public void updateToken(String series, String tokenValue, Date lastUsed) {
+        PersistentRememberMeToken cached = getTokenForSeries(series);
+        if (cached == null) {
+            return;
+        }
+
+        jdbcTemplate.update(UPDATE_SQL, tokenValue, new Timestamp(lastUsed.getTime()), series);
+        tokens.put(series, new PersistentRememberMeToken(cached.getUsername(), series, tokenValue, lastUsed));
+    }
+
+    @Override
+    public PersistentRememberMeToken getTokenForSeries(String seriesId) {
+        return tokens.get(seriesId, this::selectToken);
+    }
+
+    @Override
+    public void removeUserTokens(String username) {
+        tokens.asMap().values().removeIf(token -> token.getUsername().equals(username));
+        jdbcTemplate.update(DELETE_USER_SQL, username);
+    }
+
+    /**
+     * 유효기간이 지난 시리즈를 지운다.
+     */
+    @Scheduled(fixedDelayString = "${app.remember-me-purge-interval:3600000}")
+    public void purgeExpired() {
+        Date cutoff = new Date(System.currentTimeMillis() - tokenValidity.toMillis());
+        int purged = jdbcTemplate.update(DELETE_EXPIRED_SQL, new Timestamp(cutoff.getTime()));
+        tokens.asMap().values().removeIf(token -> token.getDate().before(cutoff));
+        if (purged > 0) {
+            log.info("만료된 remember-me 토큰 {}개를 삭제했습니다.", purged);
+        }
+    }
+
+    private PersistentRememberMeToken selectToken(String series) {
+        try {
+            return jdbcTemplate.queryForObject(SELECT_SQL, (rs, rowNum) -> new PersistentRememberMeToken(
+                    rs.getString(1), rs.getString(2), rs.getString(3), rs.getTimestamp(4)), series);
+        } catch (EmptyResultDataAccessException e) {
+            return null;
+        } catch (IncorrectResultSizeDataAccessException e) {
+            log.error("시리즈 {}에 해당하는 토큰이 여러 개 있습니다.", series);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.skykimpro.chingu.account;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skykimpro.chingu.config.AppProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 존재하지 않는 이메일/닉네임을 잠깐 기억해서, 없는 계정으로 로그인을 반복해서 시도할 때 DB를 다시 조회하지 않게 한다.
+ * 가입하거나 닉네임을 바꾸면 해당 이름을 바로 지우고, 커밋 전에 다른 요청이 다시 넣었을 수 있으므로 커밋 후에도 한 번 더 지운다.
+ */
+@Component
+public class LoginMissCache {
+
+    private static final Object MISS = Boolean.TRUE;
+
+    private final Cache<String, Object> misses;
+
+    public LoginMissCache(AppProperties appProperties) {
+        this.misses = Caffeine.newBuilder()
+                .expireAfterWrite(appProperties.getLoginMissCacheTtl())
+                .maximumSize(appProperties.getLoginMissCacheSize())
+                .build();
+    }
+
+    public boolean isMiss(String username) {
+        return misses.getIfPresent(username) != null;
+    }
+
+    public void recordMiss(String username) {
+        misses.put(username, MISS);
+    }
+
+    public void forget(String... usernames) {
+        List<String> keys = List.of(usernames);
+        misses.invalidateAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    misses.invalidateAll(keys);
+                }
+            });
+        }
+    }
+}
@@ -6,13 +6,34 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import java.util.List;
 
+/**
+ * 세션에 저장되는 로그인 사용자 정보. 엔티티 대신 바뀌지 않는 값만 들고 있고,
+ * 요청을 처리할 때는 {@link CurrentUser}가 id로 Account를 다시 찾아 준다.
+ */
 @Getter
 public class UserAccount extends User {
 
-    private Account account;
+    private final Long id;
+
+    private final String email;
+
+    private final boolean emailVerified;
 
     public UserAccount(Account account){
         super(account.getNickname(), account.getPassword(), List.of(new SimpleGrantedAuthority("ROLE_USER")));
-        this.account = account;
+        this.id = account.getId();
+        this.email = account.getEmail();
+        this.emailVerified = account.isEmailVerified();
+    }
+
+    public UserAccount(AccountCredentials credentials){
+        super(credentials.getNickname(), credentials.getPassword(), List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        this.id = credentials.getId();
+        this.email = credentials.getEmail();
+        this.emailVerified = credentials.isEmailVerified();
+    }
+
+    public String getNickname() {
+        return getUsername();
     }
 }
@@ -0,0 +1,48 @@
+package com.skykimpro.chingu.availability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+
+/**
+ * 가입 폼과 동아리 개설 폼에서 입력하는 동안 사용 가능 여부를 확인하는 AJAX 엔드포인트.
+ * 이메일은 가입 여부를 알려주게 되므로 여기서 확인하지 않고 가입 폼을 제출할 때만 검증한다.
+ */
+@Controller
+@RequestMapping("/availability")
+@RequiredArgsConstructor
+public class AvailabilityController {
+
+    private final AvailabilityIndex availabilityIndex;
+    private final AvailabilityRateLimiter availabilityRateLimiter;
+
+    @GetMapping("/nickname")
+    @ResponseBody
+    public ResponseEntity<Map<String, Boolean>> nickname(@RequestParam String value, HttpServletRequest request) {
+        if (!availabilityRateLimiter.tryAcquire(request.getRemoteAddr())) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        return available(!availabilityIndex.isNicknameTaken(value.strip()));
+    }
+
+    @GetMapping("/study-path")
+    @ResponseBody
+    public ResponseEntity<Map<String, Boolean>> studyPath(@RequestParam String value, HttpServletRequest request) {
+        if (!availabilityRateLimiter.tryAcquire(request.getRemoteAddr())) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        return available(!availabilityIndex.isStudyPathTaken(value.strip()));
+    }
+
+    private ResponseEntity<Map<String, Boolean>> available(boolean available) {
+        return ResponseEntity.ok(Map.of("available", available));
+    }
+}
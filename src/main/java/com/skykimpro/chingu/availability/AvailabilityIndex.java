@@ -0,0 +1,84 @@
+package com.skykimpro.chingu.availability;
+
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.config.AppProperties;
+import com.skykimpro.chingu.study.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+
+/**
+ * 이메일, 닉네임, 동아리 경로가 이미 쓰이고 있는지 확인한다.
+ * 블룸 필터에 없으면 DB를 보지 않고 바로 사용 가능으로 답하고, 있을 수도 있을 때만 exists 쿼리로 확인한다.
+ * 필터에는 값을 추가만 하므로 닉네임을 바꾼 뒤 예전 닉네임은 필터에 남아 exists 쿼리로 확인하게 된다.
+ * 필터는 서버마다 따로 두고 그 서버에서 저장한 값만 넣으므로, 다른 서버에서 방금 쓴 값은 사용 가능으로 답할 수 있다.
+ * 마지막 확인은 DB 의 유니크 제약이 하고, 컨트롤러는 제약 위반을 폼 오류로 바꿔서 보여준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AvailabilityIndex {
+
+    private final AccountRepository accountRepository;
+    private final StudyRepository studyRepository;
+    private final AppProperties appProperties;
+
+    private volatile BloomFilter emails;
+
+    private volatile BloomFilter nicknames;
+
+    private volatile BloomFilter studyPaths;
+
+    @PostConstruct
+    public void load() {
+        List<Object[]> accounts = accountRepository.findAllEmailsAndNicknames();
+        BloomFilter emails = newFilter(accounts.size());
+        BloomFilter nicknames = newFilter(accounts.size());
+        for (Object[] account : accounts) {
+            emails.put((String) account[0]);
+            nicknames.put((String) account[1]);
+        }
+
+        List<String> paths = studyRepository.findAllPaths();
+        BloomFilter studyPaths = newFilter(paths.size());
+        paths.forEach(studyPaths::put);
+
+        this.emails = emails;
+        this.nicknames = nicknames;
+        this.studyPaths = studyPaths;
+    }
+
+    public boolean isEmailTaken(String email) {
+        return email != null && emails.mightContain(email) && accountRepository.existsByEmail(email);
+    }
+
+    public boolean isNicknameTaken(String nickname) {
+        return nickname != null && nicknames.mightContain(nickname) && accountRepository.existsByNickname(nickname);
+    }
+
+    public boolean isStudyPathTaken(String path) {
+        return path != null && studyPaths.mightContain(path) && studyRepository.existsByPath(path);
+    }
+
+    /**
+     * 저장하기 전에 추가한다. 롤백되더라도 필터에 남은 값은 exists 쿼리로 다시 확인하므로 문제가 없다.
+     */
+    public void addAccount(String email, String nickname) {
+        emails.put(email);
+        nicknames.put(nickname);
+    }
+
+    public void addNickname(String nickname) {
+        nicknames.put(nickname);
+    }
+
+    public void addStudyPath(String path) {
+        studyPaths.put(path);
+    }
+
+    private BloomFilter newFilter(int size) {
+        return new BloomFilter(Math.max(size * 2L, appProperties.getAvailabilityExpectedSize()),
+                appProperties.getAvailabilityFalsePositiveRate());
+    }
+}
@@ -0,0 +1,32 @@
+package com.skykimpro.chingu.availability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skykimpro.chingu.config.AppProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용 가능 여부 확인은 로그인 없이도 쓰므로 IP 마다 일정 시간 동안 물어볼 수 있는 횟수를 제한한다.
+ * 처음 물어본 시점부터 창이 시작되고, 창이 지나면 항목이 만료되어 다시 셀 수 있다.
+ */
+@Component
+class AvailabilityRateLimiter {
+
+    private final Cache<String, AtomicInteger> requests;
+
+    private final int limit;
+
+    AvailabilityRateLimiter(AppProperties appProperties) {
+        this.requests = Caffeine.newBuilder()
+                .expireAfterWrite(appProperties.getAvailabilityRateWindow())
+                .maximumSize(appProperties.getAvailabilityRateCacheSize())
+                .build();
+        this.limit = appProperties.getAvailabilityRateLimit();
+    }
+
+    boolean tryAcquire(String client) {
+        return requests.get(client, key -> new AtomicInteger()).incrementAndGet() <= limit;
+    }
+}
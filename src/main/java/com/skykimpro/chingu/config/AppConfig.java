@@ -1,26 +1,50 @@
 package com.skykimpro.chingu.config;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.NameTokenizers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Map;
+
+@Slf4j
 @Configuration
 public class AppConfig {
 
+    static final int MIN_BCRYPT_STRENGTH = 10;
+
+    static final int MAX_BCRYPT_STRENGTH = 16;
+
+    /**
+     * 저장된 해시의 강도가 지금보다 낮으면 로그인할 때 upgradeEncoding으로 다시 해시한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AppProperties appProperties,
+                                           @Qualifier("passwordEncoderExecutor") AsyncTaskExecutor executor){
+        int strength = calibrateBcryptStrength(appProperties.getPasswordHashTarget());
+        log.info("bcrypt 강도를 {}(으)로 사용합니다.", strength);
+        PasswordEncoder delegate = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        return new BoundedPasswordEncoder(delegate, executor);
     }
 
-    @Bean
-    public ModelMapper modelMapper(){
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration()
-                .setDestinationNameTokenizer(NameTokenizers.UNDERSCORE)
-                .setSourceNameTokenizer(NameTokenizers.UNDERSCORE);
-        return modelMapper;
+    /**
+     * 해시 한 번이 target 을 넘지 않는 가장 높은 강도를 찾는다. 기본값(10)보다 낮추지는 않는다.
+     */
+    static int calibrateBcryptStrength(Duration target) {
+        int strength = MIN_BCRYPT_STRENGTH;
+        while (strength < MAX_BCRYPT_STRENGTH) {
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(strength + 1).encode("calibration");
+            if (Duration.ofNanos(System.nanoTime() - start).compareTo(target) > 0) {
+                break;
+            }
+            strength++;
+        }
+        return strength;
     }
 }
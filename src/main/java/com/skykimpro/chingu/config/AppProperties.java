@@ -4,10 +4,86 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Data
 @Component
 @ConfigurationProperties("app")
 public class AppProperties {
 
     private String host;
+
+    private String imageDir;
+
+    private int accountCacheSize = 10_000;
+
+    private Duration loginMissCacheTtl = Duration.ofSeconds(30);
+
+    private int loginMissCacheSize = 10_000;
+
+    private Duration rememberMeTokenValidity = Duration.ofDays(14);
+
+    private int rememberMeCacheSize = 10_000;
+
+    private Duration passwordHashTarget = Duration.ofMillis(250);
+
+    private int passwordHashWorkers = Runtime.getRuntime().availableProcessors();
+
+    private int passwordHashQueueSize = 50;
+
+    private int availabilityExpectedSize = 100_000;
+
+    private double availabilityFalsePositiveRate = 0.01;
+
+    private int availabilityRateLimit = 60;
+
+    private Duration availabilityRateWindow = Duration.ofMinutes(1);
+
+    private int availabilityRateCacheSize = 100_000;
+
+    private String searchIndexDir;
+
+    private int homeFeedSize = 9;
+
+    private int homeFeedCacheSize = 10_000;
+
+    private Duration homeFeedCacheTtl = Duration.ofMinutes(10);
+
+    private int notificationBatchSize = 1_000;
+
+    private int notificationCounterSize = 100_000;
+
+    private Duration notificationCounterTtl = Duration.ofMinutes(1);
+
+    private int notificationMaxAttempts = 5;
+
+    private Duration notificationRetryDelay = Duration.ofMinutes(1);
+
+    private Duration notificationClaimTimeout = Duration.ofMinutes(5);
+
+    private int liveEventQueueSize = 10_000;
+
+    private int liveConnectionQueueSize = 32;
+
+    private int liveWriteWorkers = 4;
+
+    private int liveAnonymousConnections = 2_000;
+
+    private int liveAnonymousConnectionsPerClient = 8;
+
+    private Duration liveHeartbeatInterval = Duration.ofSeconds(20);
+
+    private Duration liveConnectionTimeout = Duration.ofMinutes(30);
+
+    private int mailWorkers = 2;
+
+    private int mailBatchSize = 50;
+
+    private int mailMaxAttempts = 5;
+
+    private Duration mailRetryDelay = Duration.ofSeconds(30);
+
+    private Duration mailMaxRetryDelay = Duration.ofHours(1);
+
+    private Duration mailClaimTimeout = Duration.ofMinutes(5);
 }
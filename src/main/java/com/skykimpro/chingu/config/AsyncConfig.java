@@ -0,0 +1,115 @@
+package com.skykimpro.chingu.config;
+
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * 실행기를 직접 등록하면 스프링 부트가 기본 실행기를 만들지 않으므로 같은 방식으로 만들어 둔다.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 패스워드 해시 계산 전용 풀. 해시는 CPU만 쓰므로 코어 수만큼만 돌리고 나머지는 대기열에서 기다린다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordEncoderExecutor(AppProperties appProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(appProperties.getPasswordHashWorkers());
+        executor.setMaxPoolSize(appProperties.getPasswordHashWorkers());
+        executor.setQueueCapacity(appProperties.getPasswordHashQueueSize());
+        executor.setThreadNamePrefix("password-");
+        return executor;
+    }
+
+    /**
+     * 검색 색인 갱신 워커. IndexWriter 는 하나뿐이고 변경 순서가 지켜져야 하므로 스레드 하나로 처리한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("search-index-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * 알림 발송 워커. 관리자의 요청은 커밋하자마자 돌려보내고 받는 사람을 찾아 알림을 만드는 일은 여기서 한다.
+     * 같은 동아리의 알림이 일어난 순서대로 만들어지도록 스레드 하나로 처리한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("notification-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 홈 피드 캐시 정리 워커. 동아리가 바뀌면 관리자의 요청을 돌려보낸 뒤 여기서 영향을 받는 피드를 찾아 지운다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor homeFeedExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("home-feed-");
+        return executor;
+    }
+
+    /**
+     * 실시간 이벤트 브로드캐스터가 도는 스레드. 연결 수와 상관없이 스레드 하나가 이벤트를 연결마다 나눠 넣는다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor liveEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("live-");
+        return executor;
+    }
+
+    /**
+     * SSE 연결에 쓰는 풀. 쓰기는 소켓이 받아줄 때까지 막히므로 멈춘 브라우저는 스레드 하나만 잡고 나머지 연결은 계속 받는다.
+     * 연결마다 쓰기 작업은 하나만 대기하므로 대기열은 연결 수를 넘지 않는다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor liveWriteExecutor(AppProperties appProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(appProperties.getLiveWriteWorkers());
+        executor.setMaxPoolSize(appProperties.getLiveWriteWorkers());
+        executor.setThreadNamePrefix("live-write-");
+        return executor;
+    }
+
+    /**
+     * 메일 발송 워커. 스레드 수와 대기열을 제한해서 SMTP 서버가 느려도 다른 스레드에 영향을 주지 않는다.
+     */
+    @Bean
+    public TaskExecutor mailExecutor(AppProperties appProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(appProperties.getMailWorkers());
+        executor.setMaxPoolSize(appProperties.getMailWorkers());
+        executor.setQueueCapacity(appProperties.getMailWorkers());
+        executor.setThreadNamePrefix("mail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
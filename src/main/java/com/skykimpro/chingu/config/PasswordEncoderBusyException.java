@@ -0,0 +1,17 @@
+package com.skykimpro.chingu.config;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 패스워드 해시 풀이 가득 찼을 때 던진다. 컨트롤러에서는 503으로 응답하고,
+ * 폼 로그인 필터에서도 실패 핸들러로 넘어가도록 AuthenticationException을 상속한다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordEncoderBusyException extends AuthenticationServiceException {
+
+    public PasswordEncoderBusyException(Throwable cause) {
+        super("요청이 많아 잠시 후 다시 시도해 주세요.", cause);
+    }
+}
@@ -1,18 +1,24 @@
 package com.skykimpro.chingu.config;
 
 import com.skykimpro.chingu.account.AccountService;
+import com.skykimpro.chingu.account.CachingTokenRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
-import org.springframework.security.web.authentication.rememberme.JdbcTokenRepositoryImpl;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
 
+import javax.servlet.http.HttpServletResponse;
+
 import javax.sql.DataSource;
 
 @Configuration
@@ -22,31 +28,52 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final AccountService accountService;
     private final DataSource datasource;
+    private final AppProperties appProperties;
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
         http.authorizeRequests()
                 .mvcMatchers("/", "/login", "/sign-up", "/check-email-token", "/email-login",
                         "/check-email-login", "/login-link").permitAll()
-                .mvcMatchers(HttpMethod.GET, "/profile/*").permitAll()
+                .mvcMatchers(HttpMethod.GET, "/profile/*", "/image/*", "/availability/nickname",
+                        "/search/study", "/live").permitAll()
                 .anyRequest().authenticated();
 
         http.formLogin()
-                .loginPage("/login").permitAll();
+                .loginPage("/login").permitAll()
+                .failureHandler(loginFailureHandler());
 
         http.logout()
                 .logoutSuccessUrl("/");
 
         http.rememberMe()
                 .userDetailsService(accountService)
-                .tokenRepository(tokenRepository());
+                .tokenRepository(tokenRepository())
+                .tokenValiditySeconds((int) appProperties.getRememberMeTokenValidity().getSeconds());
+    }
+
+    /**
+     * 패스워드 해시 풀이 가득 차서 실패한 로그인은 잘못된 비밀번호와 구분해서 503으로 응답한다.
+     */
+    private AuthenticationFailureHandler loginFailureHandler() {
+        SimpleUrlAuthenticationFailureHandler defaultHandler = new SimpleUrlAuthenticationFailureHandler("/login?error");
+        return (request, response, exception) -> {
+            if (exception instanceof PasswordEncoderBusyException) {
+                response.setHeader("Retry-After", "1");
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, exception.getMessage());
+                return;
+            }
+            defaultHandler.onAuthenticationFailure(request, response, exception);
+        };
     }
 
+    /**
+     * 주기적으로 만료된 토큰을 지우므로 지연 초기화하지 않는다.
+     */
     @Bean
+    @Lazy(false)
     public PersistentTokenRepository tokenRepository() {
-        JdbcTokenRepositoryImpl jdbcTokenRepository = new JdbcTokenRepositoryImpl();
-        jdbcTokenRepository.setDataSource(datasource);
-        return jdbcTokenRepository;
+        return new CachingTokenRepository(new JdbcTemplate(datasource), appProperties);
     }
 
     @Override
@@ -1,7 +1,10 @@
 package com.skykimpro.chingu.domain;
 
+import com.skykimpro.chingu.image.ImageService;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import javax.persistence.Id;
 
 import javax.persistence.*;
@@ -11,6 +14,7 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @EqualsAndHashCode(of = "id")
@@ -45,8 +49,6 @@ public class Account {
 
     private String location;
 
-    @Lob
-    @Basic(fetch = FetchType.EAGER)
     private String profileImage;
 
     private boolean studyCreatedByEmail;
@@ -87,7 +89,7 @@ public class Account {
         return this.emailCheckTokenGeneratedAt.isBefore(LocalDateTime.now().minusMinutes(10));
     }
 
-    public boolean isManagerOf(Study study) {
-        return study.getManagers().contains(this);
+    public String getProfileImageUrl() {
+        return ImageService.urlOf(this.profileImage);
     }
 }
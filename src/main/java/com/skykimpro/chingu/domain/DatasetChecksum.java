@@ -0,0 +1,26 @@
+package com.skykimpro.chingu.domain;
+
+import lombok.*;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+/**
+ * 시작할 때 넣는 고정 데이터(지역 정보 등)의 체크섬. 같으면 다시 읽지 않는다.
+ */
+@Entity
+@Getter
+@Setter
+@EqualsAndHashCode(of = "name")
+@AllArgsConstructor
+@NoArgsConstructor
+public class DatasetChecksum {
+
+    @Id
+    private String name;
+
+    private String checksum;
+
+    private LocalDateTime loadedAt;
+}
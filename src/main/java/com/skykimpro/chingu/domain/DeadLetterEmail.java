@@ -0,0 +1,39 @@
+package com.skykimpro.chingu.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 재시도 횟수를 모두 써도 보내지 못한 메일.
+ */
+@Entity
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeadLetterEmail {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    @Lob
+    @Basic(fetch = FetchType.EAGER)
+    private String message;
+
+    private int attempts;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime failedAt;
+
+    private String lastError;
+}
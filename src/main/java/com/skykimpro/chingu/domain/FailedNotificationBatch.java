@@ -0,0 +1,49 @@
+package com.skykimpro.chingu.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 저장하지 못한 알림 묶음. 받는 계정 id를 남겨 두었다가 주기적으로 다시 만든다.
+ */
+@Entity
+@Table(indexes = @Index(columnList = "nextAttemptAt"))
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FailedNotificationBatch {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private Long studyId;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationType notificationType;
+
+    private String message;
+
+    /**
+     * 쉼표로 이은 계정 id. 한 묶음은 notificationBatchSize 명을 넘지 않는다.
+     */
+    @Lob
+    @Basic(fetch = FetchType.EAGER)
+    private String accountIds;
+
+    private int attempts;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * 다시 만들 시각. 재시도 횟수를 모두 쓰면 null 로 남겨서 더 시도하지 않는다.
+     */
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+}
@@ -0,0 +1,46 @@
+package com.skykimpro.chingu.domain;
+
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 웹으로 받는 알림. 읽지 않은 알림을 계정별로 세고 목록을 보여주므로 (계정, 읽음 여부) 인덱스를 둔다.
+ * 계정을 지우면 DB에서 알림도 함께 지운다.
+ * 한 번에 수백 건씩 저장하므로 id 는 전용 시퀀스에서 배치 크기만큼 한꺼번에 받아 온다.
+ */
+@Entity
+@Table(indexes = @Index(columnList = "account_id, checked"))
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 100)
+    private Long id;
+
+    private String title;
+
+    private String link;
+
+    private String message;
+
+    private boolean checked;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Account account;
+
+    private LocalDateTime createdDateTime;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationType notificationType;
+}
@@ -0,0 +1,6 @@
+package com.skykimpro.chingu.domain;
+
+public enum NotificationType {
+
+    STUDY_CREATED, STUDY_UPDATED, STUDY_ENROLLMENT
+}
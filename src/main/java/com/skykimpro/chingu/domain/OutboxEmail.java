@@ -0,0 +1,42 @@
+package com.skykimpro.chingu.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 보내야 할 메일. 메일을 요청한 트랜잭션과 함께 저장하고, 커밋한 뒤에 따로 발송한다.
+ * 알림과 함께 묶어서 저장하므로 id 는 전용 시퀀스에서 배치 크기만큼 한꺼번에 받아 온다.
+ */
+@Entity
+@Table(indexes = @Index(columnList = "nextAttemptAt"))
+@Getter
+@Setter
+@EqualsAndHashCode(of = "id")
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxEmail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_email_seq")
+    @SequenceGenerator(name = "outbox_email_seq", sequenceName = "outbox_email_seq", allocationSize = 100)
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    @Lob
+    @Basic(fetch = FetchType.EAGER)
+    private String message;
+
+    private int attempts;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime nextAttemptAt;
+
+    private String lastError;
+}
@@ -7,10 +7,11 @@ import org.springframework.stereotype.Service;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import java.time.LocalDateTime;
 
-@Table(name="persistent_logins")
+@Table(name="persistent_logins", indexes = @Index(columnList = "last_used"))
 @Entity
 @Getter @Setter
 public class PersistentLogins {
@@ -1,7 +1,10 @@
 package com.skykimpro.chingu.domain;
 
-import com.skykimpro.chingu.account.UserAccount;
+import com.skykimpro.chingu.image.ImageService;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
 
 import javax.persistence.*;
 import java.net.URLEncoder;
@@ -10,20 +13,6 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
-@NamedEntityGraph(name = "Study.withAll", attributeNodes = {
-    @NamedAttributeNode("tags"),
-    @NamedAttributeNode("zones"),
-    @NamedAttributeNode("managers"),
-    @NamedAttributeNode("members")
-})
-@NamedEntityGraph(name = "Study.withTagsAndManagers", attributeNodes = {
-        @NamedAttributeNode("tags"),
-        @NamedAttributeNode("managers")
-})
-@NamedEntityGraph(name = "Study.withZonesAndManagers", attributeNodes = {
-        @NamedAttributeNode("zones"),
-        @NamedAttributeNode("managers")
-})
 @NamedEntityGraph(name = "Study.withManagers", attributeNodes = {
         @NamedAttributeNode("managers")
 })
@@ -35,10 +24,18 @@ public class Study {
     @Id @GeneratedValue
     private Long id;
 
+    /**
+     * 기존 행에 컬럼을 추가할 때도 0 으로 시작하도록 기본값을 둔다. 이미 있던 NULL 은 db/study-counters.sql 이 채운다.
+     */
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     @ManyToMany
     private Set<Account> managers = new HashSet<>();
 
     @ManyToMany
+    @LazyCollection(LazyCollectionOption.EXTRA)
     private Set<Account> members = new HashSet<>();
 
     @Column(unique = true)
@@ -48,10 +45,9 @@ public class Study {
 
     private String shortDescription;
 
-    @Lob @Basic(fetch = FetchType.EAGER)
+    @Lob @Basic(fetch = FetchType.LAZY)
     private String fullDescription;
 
-    @Lob @Basic(fetch = FetchType.EAGER)
     private String image;
 
     @ManyToMany
@@ -74,34 +70,23 @@ public class Study {
 
     private boolean useBanner;
 
+    /**
+     * 가입과 탈퇴 때 StudyRepository 의 update 문으로만 바꾼다. 상태를 바꾸면서 다시 쓰면 그 사이의 가입이 사라지므로 수정 대상에서 뺀다.
+     */
+    @Column(updatable = false)
+    @ColumnDefault("0")
+    private int memberCount;
+
     public void addManager(Account account) {
         this.managers.add(account);
     }
 
-    public boolean isJoinable(UserAccount userAccount){
-        Account account = userAccount.getAccount();
-        return this.isPublished() && this.isRecruiting()
-                && !this.members.contains(account) && !this.managers.contains(account);
-    }
-
-    public boolean isMember(UserAccount userAccount){
-        return this.members.contains(userAccount.getAccount());
-    }
-
-    public boolean isManager(UserAccount userAccount){
-        return this.managers.contains(userAccount.getAccount());
-    }
-
     public String getEncodedPath() {
         return URLEncoder.encode(this.path, StandardCharsets.UTF_8);
     }
 
     public String getImage() {
-        return image != null ? image : "/images/default_banner.png";
-    }
-
-    public boolean isManagedBy(Account account) {
-        return this.getManagers().contains(account);
+        return image != null ? ImageService.urlOf(image) : "/images/default_banner.png";
     }
 
     public void publish() {
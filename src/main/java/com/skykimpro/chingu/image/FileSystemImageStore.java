@@ -0,0 +1,80 @@
+package com.skykimpro.chingu.image;
+
+import com.skykimpro.chingu.config.AppProperties;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 이미지 내용의 SHA-256 해시를 키로 사용해 파일 시스템에 저장한다. 같은 이미지는 한 번만 저장된다.
+ */
+@Component
+public class FileSystemImageStore implements ImageStore {
+
+    private final Path root;
+
+    public FileSystemImageStore(AppProperties appProperties) {
+        this.root = Paths.get(appProperties.getImageDir()).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String save(byte[] content, MediaType mediaType) {
+        String key = sha256(content) + "." + ImageKeys.extensionOf(mediaType);
+        Path target = pathOf(key);
+        if (Files.exists(target)) {
+            return key;
+        }
+
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+            Files.write(temp, content);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지를 저장할 수 없습니다.", e);
+        }
+        return key;
+    }
+
+    @Override
+    public Resource load(String key) {
+        if (!ImageKeys.isValid(key)) {
+            return null;
+        }
+
+        Path path = pathOf(key);
+        return Files.isRegularFile(path) ? new FileSystemResource(path) : null;
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private String sha256(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
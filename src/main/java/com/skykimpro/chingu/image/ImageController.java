@@ -0,0 +1,38 @@
+package com.skykimpro.chingu.image;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.util.concurrent.TimeUnit;
+
+@Controller
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ImageStore imageStore;
+
+    /**
+     * 이미지 키는 내용의 해시이므로 바뀌지 않는다. 키를 그대로 ETag로 쓰고 오래 캐시하게 한다.
+     * Range 요청은 ResourceRegion으로 나눠서 스트리밍된다.
+     */
+    @GetMapping(ImageService.URL_PREFIX + "{key:.+}")
+    public ResponseEntity<Resource> image(@PathVariable String key) {
+        Resource image = imageStore.load(key);
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(key)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic())
+                .contentType(MediaTypeFactory.getMediaType(image).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .body(image);
+    }
+}
@@ -0,0 +1,32 @@
+package com.skykimpro.chingu.image;
+
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+final class ImageKeys {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("^[0-9a-f]{64}\\.(png|jpg|gif|webp)$");
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            MediaType.IMAGE_PNG_VALUE, "png",
+            MediaType.IMAGE_JPEG_VALUE, "jpg",
+            MediaType.IMAGE_GIF_VALUE, "gif",
+            "image/webp", "webp");
+
+    private ImageKeys() {
+    }
+
+    static boolean isValid(String key) {
+        return key != null && KEY_PATTERN.matcher(key).matches();
+    }
+
+    static String extensionOf(MediaType mediaType) {
+        String extension = EXTENSIONS.get(mediaType.getType() + "/" + mediaType.getSubtype());
+        if (extension == null) {
+            throw new IllegalArgumentException(mediaType + " 형식의 이미지는 사용할 수 없습니다.");
+        }
+        return extension;
+    }
+}
@@ -0,0 +1,76 @@
+package com.skykimpro.chingu.image;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.Base64;
+
+@Service
+@RequiredArgsConstructor
+public class ImageService {
+
+    public static final String URL_PREFIX = "/image/";
+
+    private static final String DATA_URL_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+
+    private final ImageStore imageStore;
+
+    /**
+     * 폼에서 넘어온 이미지 값(data URL 또는 이미 저장된 이미지 키)을 저장하고 이미지 키를 반환한다.
+     * 형식이 올바르지 않으면 IllegalArgumentException 을 던지므로 폼 검증에서 먼저 isValid 로 확인한다.
+     */
+    public String store(String image) {
+        if (!StringUtils.hasText(image)) {
+            return null;
+        }
+
+        if (ImageKeys.isValid(image)) {
+            return image;
+        }
+
+        int markerIndex = markerIndexOf(image);
+        MediaType mediaType = MediaType.parseMediaType(image.substring(DATA_URL_PREFIX.length(), markerIndex));
+        ImageKeys.extensionOf(mediaType);
+        byte[] content = Base64.getDecoder().decode(image.substring(markerIndex + BASE64_MARKER.length()));
+        return imageStore.save(content, mediaType);
+    }
+
+    /**
+     * 비어 있거나, 저장된 이미지 키이거나, 사용할 수 있는 형식의 base64 data URL 이면 true.
+     */
+    public boolean isValid(String image) {
+        if (!StringUtils.hasText(image) || ImageKeys.isValid(image)) {
+            return true;
+        }
+
+        try {
+            int markerIndex = markerIndexOf(image);
+            ImageKeys.extensionOf(MediaType.parseMediaType(image.substring(DATA_URL_PREFIX.length(), markerIndex)));
+            Base64.getDecoder().decode(image.substring(markerIndex + BASE64_MARKER.length()));
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private int markerIndexOf(String image) {
+        int markerIndex = image.indexOf(BASE64_MARKER);
+        if (!image.startsWith(DATA_URL_PREFIX) || markerIndex < 0) {
+            throw new IllegalArgumentException("이미지 형식이 올바르지 않습니다.");
+        }
+        return markerIndex;
+    }
+
+    /**
+     * 이미지 키를 조회 URL 로 바꾼다. LegacyImageMigration 이 옮기기 전의 data URL 은 그대로 보여 준다.
+     */
+    public static String urlOf(String key) {
+        if (key == null || key.startsWith(DATA_URL_PREFIX)) {
+            return key;
+        }
+        return URL_PREFIX + key;
+    }
+}
@@ -0,0 +1,11 @@
+package com.skykimpro.chingu.image;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+
+public interface ImageStore {
+
+    String save(byte[] content, MediaType mediaType);
+
+    Resource load(String key);
+}
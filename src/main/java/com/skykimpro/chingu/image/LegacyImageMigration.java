@@ -0,0 +1,113 @@
+package com.skykimpro.chingu.image;
+
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+/**
+ * account.profile_image, study.image 에 남아 있는 예전 data URL 을 이미지 저장소로 옮기고 이미지 키로 바꾼다.
+ * 시작 스레드를 막지 않도록 별도 스레드에서 실행하고, 지연 초기화(fast-start 프로필)를 켜도 바로 시작하도록 즉시 생성한다.
+ * 이미 키로 바뀐 행은 건드리지 않으므로 몇 번을 실행해도 되고, 중간에 실패하면 다음에 시작할 때 이어서 옮긴다.
+ * 읽은 값과 같을 때만 바꾸므로 옮기는 사이에 사용자가 새 이미지를 올려도 덮어쓰지 않는다. 형식이 올바르지 않은 값은 보여 줄 수 없으므로 지운다.
+ * PostgreSQL 에서 @Lob 으로 저장했던 값은 컬럼에 large object 의 oid 만 들어 있으므로 lo_get 으로 내용을 읽는다.
+ */
+@Slf4j
+@Lazy(false)
+@Component
+public class LegacyImageMigration {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final Pattern LARGE_OBJECT_OID = Pattern.compile("^[0-9]+$");
+
+    private static final String READ_LARGE_OBJECT_SQL = "select convert_from(lo_get(cast(? as oid)), 'UTF8')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageService imageService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TaskExecutor taskExecutor;
+
+    private CompletableFuture<Void> migrated;
+
+    public LegacyImageMigration(JdbcTemplate jdbcTemplate, ImageService imageService,
+                                EntityManagerFactory entityManagerFactory,
+                                @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageService = imageService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @PostConstruct
+    public void start() {
+        migrated = CompletableFuture.runAsync(this::migrate, taskExecutor);
+        migrated.exceptionally(e -> {
+            log.error("예전 이미지를 옮기지 못했습니다. 다음에 시작할 때 이어서 옮깁니다.", e);
+            return null;
+        });
+    }
+
+    /**
+     * 예전 이미지를 모두 옮긴 뒤에 완료된다.
+     */
+    public CompletableFuture<Void> whenMigrated() {
+        return migrated;
+    }
+
+    void migrate() {
+        migrate("account", "profile_image", Account.class);
+        migrate("study", "image", Study.class);
+    }
+
+    private void migrate(String table, String column, Class<?> entityClass) {
+        // 이미지 키에는 항상 확장자 앞의 '.' 이 있고, data URL 과 oid 는 '.' 이 없거나 'data:' 로 시작한다.
+        String selectSql = "select id, " + column + " from " + table + " where id > ? and " + column + " is not null" +
+                " and (" + column + " like 'data:%' or " + column + " not like '%.%') order by id limit " + BATCH_SIZE;
+        String updateSql = "update " + table + " set " + column + " = ? where id = ? and " + column + " = ?";
+
+        long lastId = 0;
+        int migratedRows = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(selectSql,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)}, lastId);
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                String value = (String) row[1];
+                if (jdbcTemplate.update(updateSql, keyOf(table, id, value), id, value) > 0) {
+                    entityManagerFactory.getCache().evict(entityClass, id);
+                    migratedRows++;
+                }
+                lastId = id;
+            }
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (migratedRows > 0) {
+            log.info("{}.{} 의 예전 이미지 {}개를 이미지 저장소로 옮겼습니다.", table, column, migratedRows);
+        }
+    }
+
+    private String keyOf(String table, Long id, String value) {
+        String image = LARGE_OBJECT_OID.matcher(value).matches()
+                ? jdbcTemplate.queryForObject(READ_LARGE_OBJECT_SQL, String.class, Long.parseLong(value))
+                : value;
+        if (image == null || !imageService.isValid(image)) {
+            log.warn("{} {}의 이미지 형식이 올바르지 않아서 지웁니다.", table, id);
+            return null;
+        }
+        return imageService.store(image);
+    }
+}
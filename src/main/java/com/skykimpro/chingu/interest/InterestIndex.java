@@ -0,0 +1,137 @@
+package com.skykimpro.chingu.interest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 태그, 지역에서 관심을 등록한 계정을 거꾸로 찾는 메모리 역색인. 동아리 알림을 받을 계정을 구할 때 쓴다.
+ * 조인 테이블은 (계정, 태그) 순서의 PK만 있어서 "이 태그에 관심 있는 계정" 조회가 전체를 훑게 되므로,
+ * 처음 만들 때 조인 테이블을 한 번 읽어서 태그/지역 id 마다 계정 id 비트맵을 만들어 둔다.
+ * 서비스에서 태그와 지역을 바꾸면 커밋된 뒤에 색인에 반영하므로 롤백된 변경은 들어가지 않는다.
+ * 커밋 후 반영은 이 서버에서 바뀐 것만 알 수 있으므로, app.interest-index-refresh-interval 마다 조인 테이블을 다시 읽어
+ * 만든 색인으로 바꿔서 다른 서버에서 바뀐 관심사를 따라잡는다. 다시 읽는 동안 이 서버에서 커밋된 변경은 새 색인에도 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Object lock = new Object();
+
+    private volatile Postings postings = new Postings();
+
+    private List<Consumer<Postings>> changesDuringRefresh;
+
+    @PostConstruct
+    public void load() {
+        postings = read();
+    }
+
+    @Scheduled(fixedDelayString = "${app.interest-index-refresh-interval:300000}",
+            initialDelayString = "${app.interest-index-refresh-interval:300000}")
+    public void refresh() {
+        synchronized (lock) {
+            changesDuringRefresh = new ArrayList<>();
+        }
+        Postings refreshed = null;
+        try {
+            refreshed = read();
+        } finally {
+            synchronized (lock) {
+                if (refreshed != null) {
+                    for (Consumer<Postings> change : changesDuringRefresh) {
+                        change.accept(refreshed);
+                    }
+                    postings = refreshed;
+                }
+                changesDuringRefresh = null;
+            }
+        }
+    }
+
+    /**
+     * 태그 중 하나 이상, 지역 중 하나 이상에 관심을 등록한 계정.
+     */
+    public Roaring64NavigableMap findAccounts(Collection<Long> tagIds, Collection<Long> zoneIds) {
+        Postings current = postings;
+        Roaring64NavigableMap result = current.accountsByTag.any(tagIds);
+        result.and(current.accountsByZone.any(zoneIds));
+        return result;
+    }
+
+    public void addAccountTag(Long accountId, Long tagId) {
+        afterCommit(current -> current.accountsByTag.add(tagId, accountId));
+    }
+
+    public void removeAccountTag(Long accountId, Long tagId) {
+        afterCommit(current -> current.accountsByTag.remove(tagId, accountId));
+    }
+
+    public void addAccountZone(Long accountId, Long zoneId) {
+        afterCommit(current -> current.accountsByZone.add(zoneId, accountId));
+    }
+
+    public void removeAccountZone(Long accountId, Long zoneId) {
+        afterCommit(current -> current.accountsByZone.remove(zoneId, accountId));
+    }
+
+    private Postings read() {
+        Postings postings = new Postings();
+        read("select account_id, tags_id from account_tags", postings.accountsByTag);
+        read("select account_id, zones_id from account_zones", postings.accountsByZone);
+        return postings;
+    }
+
+    private void read(String sql, PostingLists postingLists) {
+        int[] rows = {0};
+        jdbcTemplate.query(sql, rs -> {
+            postingLists.add(rs.getLong(2), rs.getLong(1));
+            rows[0]++;
+        });
+        postingLists.optimize();
+        log.debug("{} 에서 {}건을 색인했습니다.", sql, rows[0]);
+    }
+
+    private void afterCommit(Consumer<Postings> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<Postings> change) {
+        synchronized (lock) {
+            change.accept(postings);
+            if (changesDuringRefresh != null) {
+                changesDuringRefresh.add(change);
+            }
+        }
+    }
+
+    private static class Postings {
+
+        private final PostingLists accountsByTag = new PostingLists();
+
+        private final PostingLists accountsByZone = new PostingLists();
+    }
+}
@@ -0,0 +1,75 @@
+package com.skykimpro.chingu.interest;
+
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 키(태그, 지역 id)마다 그 키를 가진 계정 id를 압축 비트맵으로 들고 있는 역색인.
+ * 비트맵은 스레드 안전하지 않으므로 읽기/쓰기 락으로 감싸고, 조회 결과는 항상 새 비트맵으로 돌려준다.
+ */
+class PostingLists {
+
+    private final Map<Long, Roaring64NavigableMap> postings = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void add(Long key, long id) {
+        lock.writeLock().lock();
+        try {
+            postings.computeIfAbsent(key, k -> new Roaring64NavigableMap()).addLong(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long key, long id) {
+        lock.writeLock().lock();
+        try {
+            Roaring64NavigableMap posting = postings.get(key);
+            if (posting != null) {
+                posting.removeLong(id);
+                if (posting.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키 중 하나라도 가진 id. 키가 없으면 빈 결과.
+     */
+    Roaring64NavigableMap any(Collection<Long> keys) {
+        Roaring64NavigableMap result = new Roaring64NavigableMap();
+        lock.readLock().lock();
+        try {
+            for (Long key : keys) {
+                Roaring64NavigableMap posting = postings.get(key);
+                if (posting != null) {
+                    result.or(posting);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 여러 건을 넣은 뒤 한 번 호출해서 비트맵을 run 컨테이너로 압축한다.
+     */
+    void optimize() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(Roaring64NavigableMap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.skykimpro.chingu.live;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 브라우저 하나와의 SSE 연결. 보낼 이벤트는 크기가 정해진 큐에 쌓아 두고, 실제 전송은 쓰기 풀에서 한다.
+ * SseEmitter.send 는 소켓에 다 쓸 때까지 막히므로 멈춘 브라우저가 있어도 그 연결의 쓰기 작업만 기다리게 된다.
+ * 한 연결의 쓰기 작업은 한 번에 하나만 돌고, 큐가 넘칠 만큼 못 따라오는 연결은 끊어서 브라우저의 EventSource 가 다시 연결하게 둔다.
+ */
+class LiveConnection {
+
+    private final SseEmitter emitter;
+
+    private final Long accountId;
+
+    private final Long studyId;
+
+    private final String client;
+
+    private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+
+    private final Executor writer;
+
+    private final Consumer<LiveConnection> onFailure;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private volatile boolean closed;
+
+    private volatile boolean completed;
+
+    LiveConnection(SseEmitter emitter, Long accountId, Long studyId, String client, int queueSize,
+                   Executor writer, Consumer<LiveConnection> onFailure) {
+        this.emitter = emitter;
+        this.accountId = accountId;
+        this.studyId = studyId;
+        this.client = client;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.writer = writer;
+        this.onFailure = onFailure;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    Long getAccountId() {
+        return accountId;
+    }
+
+    Long getStudyId() {
+        return studyId;
+    }
+
+    /**
+     * 로그인하지 않은 연결의 클라이언트 주소. 로그인한 연결이면 null.
+     */
+    String getClient() {
+        return client;
+    }
+
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        return !closed && queue.offer(event);
+    }
+
+    /**
+     * 쌓인 이벤트를 쓰기 풀에서 보낸다. 이미 쓰고 있으면 그 작업이 새 이벤트까지 이어서 보낸다.
+     */
+    void flushLater() {
+        if (scheduled.compareAndSet(false, true)) {
+            writer.execute(this::write);
+        }
+    }
+
+    /**
+     * 더 받지 않고 쓰기 풀에서 연결을 끝낸다. SseEmitter 는 send 와 complete 가 같은 잠금을 쓰므로
+     * 쓰는 중인 연결을 부르는 스레드가 기다리지 않게 한다.
+     */
+    void closeLater() {
+        closed = true;
+        flushLater();
+    }
+
+    private void write() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed && (event = queue.poll()) != null) {
+                emitter.send(event);
+            }
+            if (closed) {
+                complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            closed = true;
+            onFailure.accept(this);
+            complete();
+        } finally {
+            scheduled.set(false);
+        }
+        if (!completed && (closed || !queue.isEmpty())) {
+            flushLater();
+        }
+    }
+
+    private void complete() {
+        if (!completed) {
+            completed = true;
+            queue.clear();
+            emitter.complete();
+        }
+    }
+}
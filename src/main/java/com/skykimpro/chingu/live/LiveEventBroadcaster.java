@@ -0,0 +1,269 @@
+package com.skykimpro.chingu.live;
+
+import com.skykimpro.chingu.config.AppProperties;
+import com.skykimpro.chingu.study.StudyUpdateEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 접속한 브라우저에 알림과 동아리 상태 변경을 SSE 로 보낸다.
+ * 연결은 서블릿 비동기 요청이라 연결마다 스레드를 잡고 있지 않다. liveEventExecutor 의 스레드 하나가
+ * 이벤트 큐를 꺼내서 대상 연결의 큐에 나눠 넣기만 하고, 소켓에 쓰는 일은 liveWriteExecutor 의 작은 풀에 맡긴다.
+ * 이벤트가 없어도 heartbeat 주기마다 주석 한 줄을 보내서 프록시가 연결을 끊지 않게 하고 끊긴 연결을 정리한다.
+ */
+@Slf4j
+@Component
+public class LiveEventBroadcaster {
+
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final TaskExecutor liveEventExecutor;
+    private final TaskExecutor liveWriteExecutor;
+    private final AppProperties appProperties;
+
+    private final BlockingQueue<LiveEvent> events;
+
+    private final Set<LiveConnection> connections = ConcurrentHashMap.newKeySet();
+
+    private final Map<Long, Set<LiveConnection>> connectionsByAccount = new ConcurrentHashMap<>();
+
+    private final Map<Long, Set<LiveConnection>> connectionsByStudy = new ConcurrentHashMap<>();
+
+    private final AtomicInteger anonymousConnections = new AtomicInteger();
+
+    private final Map<String, Integer> anonymousConnectionsByClient = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    public LiveEventBroadcaster(@Qualifier("liveEventExecutor") TaskExecutor liveEventExecutor,
+                                @Qualifier("liveWriteExecutor") TaskExecutor liveWriteExecutor,
+                                AppProperties appProperties) {
+        this.liveEventExecutor = liveEventExecutor;
+        this.liveWriteExecutor = liveWriteExecutor;
+        this.appProperties = appProperties;
+        this.events = new ArrayBlockingQueue<>(appProperties.getLiveEventQueueSize());
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        liveEventExecutor.execute(this::broadcast);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        connections.forEach(this::close);
+    }
+
+    /**
+     * 로그인한 계정의 알림과, studyId 가 있으면 그 동아리의 상태 변경을 받는 연결을 연다.
+     */
+    public SseEmitter connect(Long accountId, Long studyId) {
+        return open(accountId, studyId, null);
+    }
+
+    /**
+     * 로그인하지 않은 사용자가 동아리 상태 변경만 받는 연결을 연다.
+     * 연결은 끊길 때까지 소켓을 잡고 있으므로 클라이언트 주소마다, 그리고 전체 수를 제한하고 넘으면 비어 있는 값을 돌려준다.
+     */
+    public Optional<SseEmitter> connectAnonymous(Long studyId, String client) {
+        if (!acquireAnonymous(client)) {
+            return Optional.empty();
+        }
+        return Optional.of(open(null, studyId, client));
+    }
+
+    private SseEmitter open(Long accountId, Long studyId, String client) {
+        SseEmitter emitter = new SseEmitter(appProperties.getLiveConnectionTimeout().toMillis());
+        LiveConnection connection = new LiveConnection(emitter, accountId, studyId, client, appProperties.getLiveConnectionQueueSize(),
+                liveWriteExecutor, this::remove);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        connections.add(connection);
+        if (accountId != null) {
+            connectionsByAccount.computeIfAbsent(accountId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+        }
+        if (studyId != null) {
+            connectionsByStudy.computeIfAbsent(studyId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+        }
+        // 응답 헤더를 바로 내보내도록 첫 이벤트를 넣어 둔다.
+        publish(new LiveEvent(List.of(connection), () -> SseEmitter.event().comment("connected")));
+        return emitter;
+    }
+
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * 알림을 저장한 트랜잭션이 커밋되면 받는 계정의 연결로 보낸다.
+     */
+    public void sendToAccountsAfterCommit(Collection<Long> accountIds, String name, Object data) {
+        List<Long> ids = List.copyOf(accountIds);
+        afterCommit(() -> publish(new LiveEvent(targets(ids, connectionsByAccount::get), () -> event(name, data))));
+    }
+
+    @TransactionalEventListener
+    public void handleStudyUpdateEvent(StudyUpdateEvent event) {
+        Set<LiveConnection> targets = connectionsByStudy.get(event.getStudyId());
+        if (targets != null) {
+            Map<String, Object> data = Map.of("message", event.getMessage());
+            publish(new LiveEvent(List.copyOf(targets), () -> event("study", data)));
+        }
+    }
+
+    private void publish(LiveEvent event) {
+        if (!event.targets.isEmpty() && !events.offer(event)) {
+            log.warn("실시간 이벤트 큐가 가득 차서 이벤트를 버렸습니다.");
+        }
+    }
+
+    private void broadcast() {
+        long heartbeatNanos = appProperties.getLiveHeartbeatInterval().toNanos();
+        long nextHeartbeat = System.nanoTime() + heartbeatNanos;
+        List<LiveEvent> batch = new ArrayList<>();
+        while (running) {
+            try {
+                LiveEvent first = events.poll(Math.max(0, nextHeartbeat - System.nanoTime()), TimeUnit.NANOSECONDS);
+                Set<LiveConnection> dirty = new HashSet<>();
+                if (first != null) {
+                    batch.add(first);
+                    events.drainTo(batch);
+                    for (LiveEvent event : batch) {
+                        event.targets.forEach(connection -> enqueue(connection, event.event.get(), dirty));
+                    }
+                    batch.clear();
+                }
+                if (System.nanoTime() - nextHeartbeat >= 0) {
+                    connections.forEach(connection -> enqueue(connection, SseEmitter.event().comment(HEARTBEAT), dirty));
+                    nextHeartbeat = System.nanoTime() + heartbeatNanos;
+                }
+                dirty.forEach(LiveConnection::flushLater);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("실시간 이벤트를 보내지 못했습니다.", e);
+            }
+        }
+    }
+
+    private void enqueue(LiveConnection connection, SseEmitter.SseEventBuilder event, Set<LiveConnection> dirty) {
+        if (connection.offer(event)) {
+            dirty.add(connection);
+        } else {
+            close(connection);
+        }
+    }
+
+    private void close(LiveConnection connection) {
+        remove(connection);
+        connection.closeLater();
+    }
+
+    private boolean acquireAnonymous(String client) {
+        if (anonymousConnections.incrementAndGet() > appProperties.getLiveAnonymousConnections()) {
+            anonymousConnections.decrementAndGet();
+            return false;
+        }
+        if (anonymousConnectionsByClient.merge(client, 1, Integer::sum) > appProperties.getLiveAnonymousConnectionsPerClient()) {
+            releaseAnonymous(client);
+            return false;
+        }
+        return true;
+    }
+
+    private void releaseAnonymous(String client) {
+        anonymousConnections.decrementAndGet();
+        anonymousConnectionsByClient.computeIfPresent(client, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * 완료, 시간 초과, 오류 콜백과 직접 닫을 때 여러 번 불릴 수 있으므로 처음 한 번만 익명 연결 수를 돌려준다.
+     */
+    private void remove(LiveConnection connection) {
+        if (connections.remove(connection) && connection.getClient() != null) {
+            releaseAnonymous(connection.getClient());
+        }
+        removeFrom(connectionsByAccount, connection.getAccountId(), connection);
+        removeFrom(connectionsByStudy, connection.getStudyId(), connection);
+    }
+
+    private void removeFrom(Map<Long, Set<LiveConnection>> index, Long key, LiveConnection connection) {
+        if (key != null) {
+            index.computeIfPresent(key, (id, set) -> {
+                set.remove(connection);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private List<LiveConnection> targets(Collection<Long> keys, Function<Long, Set<LiveConnection>> lookup) {
+        List<LiveConnection> targets = new ArrayList<>();
+        for (Long key : keys) {
+            Set<LiveConnection> found = lookup.apply(key);
+            if (found != null) {
+                targets.addAll(found);
+            }
+        }
+        return targets;
+    }
+
+    private SseEmitter.SseEventBuilder event(String name, Object data) {
+        return SseEmitter.event().name(name).data(data);
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private static class LiveEvent {
+
+        private final List<LiveConnection> targets;
+
+        /**
+         * SseEventBuilder 는 보낼 때 내용이 바뀌므로 연결마다 새로 만든다.
+         */
+        private final Supplier<SseEmitter.SseEventBuilder> event;
+
+        LiveEvent(List<LiveConnection> targets, Supplier<SseEmitter.SseEventBuilder> event) {
+            this.targets = targets;
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.skykimpro.chingu.live;
+
+import com.skykimpro.chingu.account.UserAccount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.servlet.http.HttpServletRequest;
+
+@RestController
+@RequiredArgsConstructor
+public class LiveEventController {
+
+    private final LiveEventBroadcaster liveEventBroadcaster;
+
+    /**
+     * 알림은 로그인한 사용자만 받는다. 로그인하지 않으면 동아리 상태 변경만 받을 수 있고 연결 수가 제한된다.
+     */
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> connect(@AuthenticationPrincipal UserAccount userAccount,
+                                              @RequestParam(required = false) Long study,
+                                              HttpServletRequest request) {
+        if (userAccount != null) {
+            return ResponseEntity.ok(liveEventBroadcaster.connect(userAccount.getId(), study));
+        }
+        if (study == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return liveEventBroadcaster.connectAnonymous(study, request.getRemoteAddr())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build());
+    }
+}
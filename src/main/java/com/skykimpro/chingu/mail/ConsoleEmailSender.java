@@ -0,0 +1,20 @@
+package com.skykimpro.chingu.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Profile("local")
+@Component
+public class ConsoleEmailSender implements EmailSender {
+
+    @Override
+    public Map<EmailMessage, Exception> send(List<EmailMessage> emailMessages) {
+        emailMessages.forEach(emailMessage -> log.info("sent email: {}", emailMessage.getMessage()));
+        return Map.of();
+    }
+}
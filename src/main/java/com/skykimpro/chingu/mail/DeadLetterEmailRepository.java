@@ -0,0 +1,9 @@
+package com.skykimpro.chingu.mail;
+
+import com.skykimpro.chingu.domain.DeadLetterEmail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public interface DeadLetterEmailRepository extends JpaRepository<DeadLetterEmail, Long> {
+}
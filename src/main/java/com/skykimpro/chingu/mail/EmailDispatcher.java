@@ -0,0 +1,103 @@
+package com.skykimpro.chingu.mail;
+
+import com.skykimpro.chingu.config.AppProperties;
+import com.skykimpro.chingu.domain.OutboxEmail;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * outbox 에 쌓인 메일을 mailExecutor 워커에서 묶어서 보낸다.
+ * 메일을 저장한 트랜잭션이 커밋되면 바로, 그 밖에는 주기적으로 재시도할 메일을 확인한다.
+ * 지연 초기화를 켜도 주기 작업이 등록되도록 즉시 생성한다.
+ */
+@Slf4j
+@Lazy(false)
+@Component
+public class EmailDispatcher {
+
+    private final EmailOutbox emailOutbox;
+    private final EmailSender emailSender;
+    private final TaskExecutor mailExecutor;
+    private final AppProperties appProperties;
+
+    public EmailDispatcher(EmailOutbox emailOutbox, EmailSender emailSender,
+                           @Qualifier("mailExecutor") TaskExecutor mailExecutor, AppProperties appProperties) {
+        this.emailOutbox = emailOutbox;
+        this.emailSender = emailSender;
+        this.mailExecutor = mailExecutor;
+        this.appProperties = appProperties;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleEmailQueuedEvent(EmailQueuedEvent event) {
+        dispatch();
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail-poll-interval:10000}")
+    public void dispatch() {
+        try {
+            mailExecutor.execute(this::drain);
+        } catch (TaskRejectedException e) {
+            // 워커가 모두 바쁘면 남은 메일은 그 워커들이나 다음 주기에 보낸다.
+            log.debug("mail workers are busy");
+        }
+    }
+
+    void drain() {
+        List<OutboxEmail> batch;
+        do {
+            batch = emailOutbox.claimDue(appProperties.getMailBatchSize());
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+        } while (batch.size() == appProperties.getMailBatchSize());
+    }
+
+    private void send(List<OutboxEmail> batch) {
+        Map<EmailMessage, OutboxEmail> sources = new IdentityHashMap<>();
+        List<EmailMessage> emailMessages = new ArrayList<>();
+        for (OutboxEmail outboxEmail : batch) {
+            EmailMessage emailMessage = EmailMessage.builder()
+                    .to(outboxEmail.getRecipient())
+                    .subject(outboxEmail.getSubject())
+                    .message(outboxEmail.getMessage())
+                    .build();
+            sources.put(emailMessage, outboxEmail);
+            emailMessages.add(emailMessage);
+        }
+
+        Map<EmailMessage, Exception> failed;
+        try {
+            failed = emailSender.send(emailMessages);
+        } catch (RuntimeException e) {
+            failed = new IdentityHashMap<>();
+            for (EmailMessage emailMessage : emailMessages) {
+                failed.put(emailMessage, e);
+            }
+        }
+
+        List<OutboxEmail> sent = new ArrayList<>();
+        for (EmailMessage emailMessage : emailMessages) {
+            Exception cause = failed.get(emailMessage);
+            if (cause == null) {
+                sent.add(sources.get(emailMessage));
+            } else {
+                emailOutbox.markFailed(sources.get(emailMessage), cause);
+            }
+        }
+        if (!sent.isEmpty()) {
+            emailOutbox.markSent(sent);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.skykimpro.chingu.mail;
+
+import com.skykimpro.chingu.config.AppProperties;
+import com.skykimpro.chingu.domain.DeadLetterEmail;
+import com.skykimpro.chingu.domain.OutboxEmail;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * outbox 테이블에서 보낼 메일을 가져오고 발송 결과를 기록한다.
+ */
+@Slf4j
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final DeadLetterEmailRepository deadLetterEmailRepository;
+    private final AppProperties appProperties;
+
+    /**
+     * 보낼 차례가 된 메일을 최대 batchSize 통 가져오면서 다음 시도 시각을 뒤로 미뤄 둔다.
+     * 발송 도중 서버가 죽어도 그 시각이 지나면 다시 보낸다.
+     */
+    public List<OutboxEmail> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEmail> due = outboxEmailRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(now,
+                PageRequest.of(0, batchSize));
+        due.forEach(email -> email.setNextAttemptAt(now.plus(appProperties.getMailClaimTimeout())));
+        return due;
+    }
+
+    public void markSent(List<OutboxEmail> sent) {
+        outboxEmailRepository.deleteInBatch(sent);
+    }
+
+    public void markFailed(OutboxEmail email, Exception cause) {
+        OutboxEmail outboxEmail = outboxEmailRepository.findById(email.getId()).orElse(null);
+        if (outboxEmail == null) {
+            return;
+        }
+
+        int attempts = outboxEmail.getAttempts() + 1;
+        String error = abbreviate(String.valueOf(cause.getMessage()));
+        if (attempts >= appProperties.getMailMaxAttempts()) {
+            deadLetterEmailRepository.save(DeadLetterEmail.builder()
+                    .recipient(outboxEmail.getRecipient())
+                    .subject(outboxEmail.getSubject())
+                    .message(outboxEmail.getMessage())
+                    .attempts(attempts)
+                    .createdAt(outboxEmail.getCreatedAt())
+                    .failedAt(LocalDateTime.now())
+                    .lastError(error)
+                    .build());
+            outboxEmailRepository.delete(outboxEmail);
+            log.error("gave up sending email to {} after {} attempts", outboxEmail.getRecipient(), attempts, cause);
+            return;
+        }
+
+        outboxEmail.setAttempts(attempts);
+        outboxEmail.setLastError(error);
+        outboxEmail.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+        log.warn("failed to send email to {} ({} attempts): {}", outboxEmail.getRecipient(), attempts, error);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = appProperties.getMailRetryDelay().multipliedBy(1L << Math.min(attempts - 1, 20));
+        Duration max = appProperties.getMailMaxRetryDelay();
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    private String abbreviate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
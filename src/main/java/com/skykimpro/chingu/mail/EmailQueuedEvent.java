@@ -0,0 +1,4 @@
+package com.skykimpro.chingu.mail;
+
+public class EmailQueuedEvent {
+}
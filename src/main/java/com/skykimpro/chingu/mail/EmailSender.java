@@ -0,0 +1,15 @@
+package com.skykimpro.chingu.mail;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일을 실제로 보내는 방법. 한 번에 여러 통을 보낼 수 있어야 한다.
+ */
+public interface EmailSender {
+
+    /**
+     * 보내지 못한 메일과 그 원인을 반환한다. 반환하는 Map은 메일 객체의 동일성으로 구분한다.
+     */
+    Map<EmailMessage, Exception> send(List<EmailMessage> emailMessages);
+}
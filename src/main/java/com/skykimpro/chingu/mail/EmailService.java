@@ -1,5 +1,11 @@
 package com.skykimpro.chingu.mail;
 
+import java.util.List;
+
 public interface EmailService {
     void  sendEmail(EmailMessage emailMessage);
+
+    default void sendEmails(List<EmailMessage> emailMessages) {
+        emailMessages.forEach(this::sendEmail);
+    }
 }
@@ -0,0 +1,71 @@
+package com.skykimpro.chingu.mail;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Profile("dev")
+@Component
+@RequiredArgsConstructor
+public class HtmlEmailSender implements EmailSender {
+
+    private final JavaMailSender javaMailSender;
+
+    /**
+     * JavaMailSender에 한 번에 넘겨서 SMTP 연결 하나로 모두 보낸다.
+     */
+    @Override
+    public Map<EmailMessage, Exception> send(List<EmailMessage> emailMessages) {
+        Map<EmailMessage, Exception> failed = new IdentityHashMap<>();
+        Map<MimeMessage, EmailMessage> sources = new IdentityHashMap<>();
+        List<MimeMessage> mimeMessages = new ArrayList<>();
+        for (EmailMessage emailMessage : emailMessages) {
+            try {
+                MimeMessage mimeMessage = createMimeMessage(emailMessage);
+                sources.put(mimeMessage, emailMessage);
+                mimeMessages.add(mimeMessage);
+            } catch (MessagingException e) {
+                failed.put(emailMessage, e);
+            }
+        }
+
+        if (mimeMessages.isEmpty()) {
+            return failed;
+        }
+
+        try {
+            javaMailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((mimeMessage, cause) -> failed.put(sources.get(mimeMessage), cause));
+            if (e.getFailedMessages().isEmpty()) {
+                mimeMessages.forEach(mimeMessage -> failed.put(sources.get(mimeMessage), e));
+            }
+        } catch (RuntimeException e) {
+            mimeMessages.forEach(mimeMessage -> failed.put(sources.get(mimeMessage), e));
+        }
+
+        log.info("sent {} of {} emails", emailMessages.size() - failed.size(), emailMessages.size());
+        return failed;
+    }
+
+    private MimeMessage createMimeMessage(EmailMessage emailMessage) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        mimeMessageHelper.setTo(emailMessage.getTo());
+        mimeMessageHelper.setSubject(emailMessage.getSubject());
+        mimeMessageHelper.setText(emailMessage.getMessage(), true);
+        return mimeMessage;
+    }
+}
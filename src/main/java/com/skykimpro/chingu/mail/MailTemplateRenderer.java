@@ -0,0 +1,83 @@
+package com.skykimpro.chingu.mail;
+
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일 본문을 만드는 템플릿 엔진. 웹 화면용 엔진과 달리 개발 중에도 캐시를 끄지 않아서
+ * 템플릿은 처음 한 번만 파싱하고, SpEL 식은 컴파일해서 사용한다.
+ * 렌더링 결과는 스레드마다 재사용하는 버퍼에 바로 쓴다.
+ */
+@Component
+public class MailTemplateRenderer {
+
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final TemplateEngine templateEngine;
+
+    private final ThreadLocal<StringWriter> buffers = ThreadLocal.withInitial(() -> new StringWriter(INITIAL_BUFFER_SIZE));
+
+    public MailTemplateRenderer() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        templateResolver.setCacheable(true);
+
+        SpringTemplateEngine springTemplateEngine = new SpringTemplateEngine();
+        springTemplateEngine.setTemplateResolver(templateResolver);
+        springTemplateEngine.setEnableSpringELCompiler(true);
+        this.templateEngine = springTemplateEngine;
+    }
+
+    public String render(String template, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+        return render(template, context);
+    }
+
+    /**
+     * 받는 사람마다 변수만 바꿔서 같은 템플릿을 연달아 렌더링한다.
+     */
+    public List<String> renderAll(String template, List<Map<String, Object>> variablesPerRecipient) {
+        List<String> messages = new ArrayList<>(variablesPerRecipient.size());
+        Context context = new Context();
+        for (Map<String, Object> variables : variablesPerRecipient) {
+            context.clearVariables();
+            context.setVariables(variables);
+            messages.add(render(template, context));
+        }
+        return messages;
+    }
+
+    public void render(String template, Map<String, Object> variables, Writer writer) {
+        Context context = new Context();
+        context.setVariables(variables);
+        templateEngine.process(template, context, writer);
+    }
+
+    private String render(String template, Context context) {
+        StringWriter buffer = buffers.get();
+        buffer.getBuffer().setLength(0);
+        templateEngine.process(template, context, buffer);
+        String message = buffer.toString();
+        if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            buffers.remove();
+        }
+        return message;
+    }
+}
@@ -0,0 +1,59 @@
+package com.skykimpro.chingu.mail;
+
+import com.skykimpro.chingu.domain.OutboxEmail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 메일을 바로 보내지 않고 요청한 트랜잭션 안에서 outbox 테이블에 저장한다.
+ * 실제 발송은 커밋된 뒤 {@link EmailDispatcher}가 한다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OutboxEmailService implements EmailService {
+
+    private final OutboxEmailRepository outboxEmailRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void sendEmail(EmailMessage emailMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxEmailRepository.save(OutboxEmail.builder()
+                .recipient(emailMessage.getTo())
+                .subject(emailMessage.getSubject())
+                .message(emailMessage.getMessage())
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build());
+        eventPublisher.publishEvent(new EmailQueuedEvent());
+    }
+
+    /**
+     * 여러 통을 한 번에 저장하고 발송 이벤트는 한 번만 낸다. insert 는 hibernate.jdbc.batch_size 단위로 묶여서 나간다.
+     */
+    @Override
+    public void sendEmails(List<EmailMessage> emailMessages) {
+        if (emailMessages.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        outboxEmailRepository.saveAll(emailMessages.stream()
+                .map(emailMessage -> OutboxEmail.builder()
+                        .recipient(emailMessage.getTo())
+                        .subject(emailMessage.getSubject())
+                        .message(emailMessage.getMessage())
+                        .createdAt(now)
+                        .nextAttemptAt(now)
+                        .build())
+                .collect(Collectors.toList()));
+        eventPublisher.publishEvent(new EmailQueuedEvent());
+    }
+}
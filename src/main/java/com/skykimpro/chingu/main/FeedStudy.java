@@ -0,0 +1,40 @@
+package com.skykimpro.chingu.main;
+
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.domain.Tag;
+import com.skykimpro.chingu.domain.Zone;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 피드에 보여줄 동아리 정보. 여러 요청이 함께 캐시에서 꺼내 쓰므로 엔티티 대신 바뀌지 않는 값만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class FeedStudy {
+
+    private final Long id;
+
+    private final String path;
+
+    private final String title;
+
+    private final String shortDescription;
+
+    private final LocalDateTime publishedDateTime;
+
+    private final List<String> tags;
+
+    private final List<String> zones;
+
+    public static FeedStudy of(Study study) {
+        return new FeedStudy(study.getId(), study.getPath(), study.getTitle(), study.getShortDescription(),
+                study.getPublishedDateTime(),
+                study.getTags().stream().map(Tag::getTitle).sorted().collect(Collectors.toList()),
+                study.getZones().stream().map(Zone::getLocalNameOfCity).sorted().collect(Collectors.toList()));
+    }
+}
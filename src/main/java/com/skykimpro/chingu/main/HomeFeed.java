@@ -0,0 +1,32 @@
+package com.skykimpro.chingu.main;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한 사용자의 홈 피드 캐시 항목. 어떤 동아리가 바뀌었을 때 이 피드를 다시 계산해야 하는지 판단할 수 있도록
+ * 피드를 만들 때 쓴 관심 태그와 지역을 함께 기억한다.
+ */
+@Getter
+@AllArgsConstructor
+class HomeFeed {
+
+    private final Set<Long> tagIds;
+
+    private final Set<Long> zoneIds;
+
+    private final List<FeedStudy> studies;
+
+    /**
+     * 피드에 이미 있는 동아리이거나, 태그와 지역이 모두 겹쳐서 새로 들어올 수 있는 동아리면 다시 계산한다.
+     */
+    boolean isAffectedBy(Long studyId, Collection<Long> studyTagIds, Collection<Long> studyZoneIds) {
+        return studies.stream().anyMatch(study -> study.getId().equals(studyId))
+                || !Collections.disjoint(tagIds, studyTagIds) && !Collections.disjoint(zoneIds, studyZoneIds);
+    }
+}
@@ -0,0 +1,121 @@
+package com.skykimpro.chingu.main;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.config.AppProperties;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.study.StudyChangedEvent;
+import com.skykimpro.chingu.study.StudyRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 로그인한 사용자의 관심 태그, 지역과 겹치는 모집 중인 동아리 목록.
+ * 사용자마다 한 번 계산해서 캐시에 두고, 사용자의 관심사가 바뀌거나 피드에 영향을 주는 동아리가 바뀌면 지운다.
+ * 캐시는 최근에 들어온 사용자 수만큼만 유지하므로 계정 수와 상관없이 메모리 사용량이 일정하다.
+ * 동아리가 바뀌었을 때 영향을 받는 피드를 찾는 일은 커밋된 뒤에 homeFeedExecutor 에서 하므로 관리자의 요청을 붙잡지 않는다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class HomeFeedService {
+
+    private final AccountRepository accountRepository;
+    private final StudyRepository studyRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TaskExecutor homeFeedExecutor;
+    private final int feedSize;
+    private final Cache<Long, HomeFeed> feeds;
+
+    public HomeFeedService(AccountRepository accountRepository, StudyRepository studyRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Qualifier("homeFeedExecutor") TaskExecutor homeFeedExecutor,
+                           AppProperties appProperties) {
+        this.accountRepository = accountRepository;
+        this.studyRepository = studyRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.homeFeedExecutor = homeFeedExecutor;
+        this.feedSize = appProperties.getHomeFeedSize();
+        this.feeds = Caffeine.newBuilder()
+                .expireAfterWrite(appProperties.getHomeFeedCacheTtl())
+                .maximumSize(appProperties.getHomeFeedCacheSize())
+                .build();
+    }
+
+    public List<FeedStudy> getFeed(Account account) {
+        return feeds.get(account.getId(), this::loadFeed).getStudies();
+    }
+
+    /**
+     * 관심 태그나 지역을 바꾼 사용자의 피드를 지운다. 커밋 전에 다른 요청이 예전 관심사로 다시 채웠을 수 있으므로 커밋 후에도 한 번 더 지운다.
+     */
+    public void forget(Long accountId) {
+        feeds.invalidate(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    feeds.invalidate(accountId);
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener
+    public void handleStudyChangedEvent(StudyChangedEvent event) {
+        if (feeds.estimatedSize() > 0) {
+            homeFeedExecutor.execute(() -> forgetFeedsAffectedBy(event.getStudyId()));
+        }
+    }
+
+    /**
+     * 지금까지 넘겨받은 피드 정리 작업이 모두 끝나면 완료된다.
+     */
+    public CompletableFuture<Void> whenEvicted() {
+        return CompletableFuture.runAsync(() -> { }, homeFeedExecutor);
+    }
+
+    private void forgetFeedsAffectedBy(Long studyId) {
+        Set<Long> tagIds = new HashSet<>();
+        Set<Long> zoneIds = new HashSet<>();
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            for (Study study : studyRepository.findDistinctWithTagsAndZonesByIdIn(List.of(studyId))) {
+                study.getTags().forEach(tag -> tagIds.add(tag.getId()));
+                study.getZones().forEach(zone -> zoneIds.add(zone.getId()));
+            }
+        });
+        feeds.asMap().values().removeIf(feed -> feed.isAffectedBy(studyId, tagIds, zoneIds));
+    }
+
+    private HomeFeed loadFeed(Long accountId) {
+        Set<Long> tagIds = Set.copyOf(accountRepository.findTagIds(accountId));
+        Set<Long> zoneIds = Set.copyOf(accountRepository.findZoneIds(accountId));
+        if (tagIds.isEmpty() || zoneIds.isEmpty()) {
+            return new HomeFeed(tagIds, zoneIds, List.of());
+        }
+
+        List<Long> studyIds = studyRepository.findRecruitingStudyIds(tagIds, zoneIds, PageRequest.of(0, feedSize));
+        List<FeedStudy> studies = studyRepository.findDistinctWithTagsAndZonesByIdIn(studyIds).stream()
+                .sorted(Comparator.comparingInt(study -> studyIds.indexOf(study.getId())))
+                .map(FeedStudy::of)
+                .collect(Collectors.toUnmodifiableList());
+        return new HomeFeed(tagIds, zoneIds, studies);
+    }
+}
@@ -2,18 +2,23 @@ package com.skykimpro.chingu.main;
 
 import com.skykimpro.chingu.account.CurrentUser;
 import com.skykimpro.chingu.domain.Account;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 @Controller
+@RequiredArgsConstructor
 public class MainController {
 
+    private final HomeFeedService homeFeedService;
+
     @GetMapping("/")
     public String home(@CurrentUser Account account, Model model){
         if(account != null)
         {
             model.addAttribute(account);
+            model.addAttribute("studyList", homeFeedService.getFeed(account));
         }
 
         return "index";
@@ -0,0 +1,24 @@
+package com.skykimpro.chingu.notification;
+
+import com.skykimpro.chingu.domain.FailedNotificationBatch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface FailedNotificationBatchRepository extends JpaRepository<FailedNotificationBatch, Long> {
+
+    /**
+     * 다른 노드가 잡고 있는 행은 건너뛴다(SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    List<FailedNotificationBatch> findByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now, Pageable pageable);
+}
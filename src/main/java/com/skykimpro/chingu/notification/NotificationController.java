@@ -0,0 +1,46 @@
+package com.skykimpro.chingu.notification;
+
+import com.skykimpro.chingu.account.CurrentUser;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.util.List;
+
+@Controller
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @GetMapping("/notifications")
+    public String getNotifications(@CurrentUser Account account, Model model){
+        List<Notification> notifications = notificationService.getNotifications(account, false);
+        putCategorizedNotifications(model, notifications, notificationService.countNotifications(account, false),
+                notificationService.countNotifications(account, true));
+        model.addAttribute(account);
+        model.addAttribute("isNew", true);
+        notificationService.markAsChecked(account, notifications);
+        return "notification/list";
+    }
+
+    @GetMapping("/notifications/old")
+    public String getOldNotifications(@CurrentUser Account account, Model model){
+        List<Notification> notifications = notificationService.getNotifications(account, true);
+        putCategorizedNotifications(model, notifications, notificationService.countNotifications(account, false),
+                notificationService.countNotifications(account, true));
+        model.addAttribute(account);
+        model.addAttribute("isNew", false);
+        return "notification/list";
+    }
+
+    private void putCategorizedNotifications(Model model, List<Notification> notifications,
+                                             long numberOfNotChecked, long numberOfChecked) {
+        model.addAttribute("notifications", notifications);
+        model.addAttribute("numberOfNotChecked", numberOfNotChecked);
+        model.addAttribute("numberOfChecked", numberOfChecked);
+    }
+}
@@ -0,0 +1,101 @@
+package com.skykimpro.chingu.notification;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.skykimpro.chingu.config.AppProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 계정별 읽지 않은 알림 수. 화면을 그릴 때마다 count 쿼리를 하지 않도록 메모리에 LongAdder 로 들고 있다.
+ * 처음 물어본 계정만 DB에서 세어 넣고(재시작 후에도 이렇게 다시 채워진다), 그 뒤로는 알림이 커밋될 때 더한다.
+ * 최근에 물어본 계정 수만큼만 유지하고, 밀려난 계정은 다음에 다시 DB에서 센다.
+ * 세는 도중에 커밋된 알림이 한 번 더 더해지거나 다른 서버에서 저장한 알림이 빠질 수 있으므로,
+ * DB에서 센 뒤 app.notification-counter-ttl 이 지나면 버리고 다시 센다. 더하고 빼는 것은 이 시각을 늦추지 않는다.
+ */
+@Component
+public class NotificationCounter {
+
+    private final NotificationRepository notificationRepository;
+
+    private final Cache<Long, LongAdder> counters;
+
+    public NotificationCounter(NotificationRepository notificationRepository, AppProperties appProperties) {
+        this.notificationRepository = notificationRepository;
+        long ttlNanos = appProperties.getNotificationCounterTtl().toNanos();
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(appProperties.getNotificationCounterSize())
+                .expireAfter(new Expiry<Long, LongAdder>() {
+                    @Override
+                    public long expireAfterCreate(Long accountId, LongAdder counter, long currentTime) {
+                        return ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long accountId, LongAdder counter, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long accountId, LongAdder counter, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public long getUnreadCount(Long accountId) {
+        return counters.get(accountId, id -> {
+            LongAdder counter = new LongAdder();
+            counter.add(notificationRepository.countByAccountIdAndChecked(id, false));
+            return counter;
+        }).sum();
+    }
+
+    /**
+     * 알림을 저장한 트랜잭션이 커밋되면 받은 계정의 수를 하나씩 올린다. 아직 센 적 없는 계정은 나중에 DB에서 센다.
+     */
+    public void incrementAfterCommit(Collection<Long> accountIds) {
+        List<Long> ids = List.copyOf(accountIds);
+        afterCommit(() -> ids.forEach(id -> counters.asMap().computeIfPresent(id, (key, counter) -> {
+            counter.increment();
+            return counter;
+        })));
+    }
+
+    /**
+     * 커밋되면 읽음으로 바꾼 수만큼 줄인다. 세는 도중에 더해진 알림과 어긋나도 0 밑으로 내려가지 않게 한다.
+     */
+    public void decrementAfterCommit(Long accountId, long checked) {
+        afterCommit(() -> counters.asMap().computeIfPresent(accountId, (key, counter) -> {
+            counter.add(-Math.min(checked, counter.sum()));
+            return counter;
+        }));
+    }
+
+    public void resetAfterCommit(Long accountId) {
+        afterCommit(() -> counters.asMap().computeIfPresent(accountId, (key, counter) -> {
+            counter.reset();
+            return counter;
+        }));
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.skykimpro.chingu.notification;
+
+import com.skykimpro.chingu.account.UserAccount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.view.RedirectView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 화면을 그리는 요청마다 내비게이션 바에 보여줄 읽지 않은 알림 수를 모델에 넣는다. 수는 {@link NotificationCounter} 에서 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationInterceptor implements HandlerInterceptor {
+
+    private final NotificationCounter notificationCounter;
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        if (modelAndView == null || isRedirectView(modelAndView)) {
+            return;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserAccount) {
+            long count = notificationCounter.getUnreadCount(((UserAccount) authentication.getPrincipal()).getId());
+            modelAndView.addObject("unreadNotificationCount", count);
+        }
+    }
+
+    private boolean isRedirectView(ModelAndView modelAndView) {
+        return modelAndView.getView() instanceof RedirectView
+                || modelAndView.getViewName() != null && modelAndView.getViewName().startsWith("redirect:");
+    }
+}
@@ -0,0 +1,25 @@
+package com.skykimpro.chingu.notification;
+
+import com.skykimpro.chingu.domain.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    long countByAccountIdAndChecked(Long accountId, boolean checked);
+
+    List<Notification> findByAccountIdAndCheckedOrderByCreatedDateTimeDesc(Long accountId, boolean checked, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.checked = true where n.account.id = :accountId and n.id in :ids and n.checked = false")
+    int markAsChecked(@Param("accountId") Long accountId, @Param("ids") Collection<Long> ids);
+}
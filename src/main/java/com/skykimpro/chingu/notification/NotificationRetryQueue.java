@@ -0,0 +1,89 @@
+package com.skykimpro.chingu.notification;
+
+import com.skykimpro.chingu.config.AppProperties;
+import com.skykimpro.chingu.domain.FailedNotificationBatch;
+import com.skykimpro.chingu.domain.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 저장하지 못한 알림 묶음을 기록하고, 다시 만들 차례가 된 묶음을 가져온다. 메일 outbox 와 같은 방식으로 다룬다.
+ */
+@Slf4j
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class NotificationRetryQueue {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final FailedNotificationBatchRepository failedNotificationBatchRepository;
+    private final AppProperties appProperties;
+
+    public void record(Long studyId, NotificationType type, String message, Collection<Long> accountIds, Exception cause) {
+        LocalDateTime now = LocalDateTime.now();
+        failedNotificationBatchRepository.save(FailedNotificationBatch.builder()
+                .studyId(studyId)
+                .notificationType(type)
+                .message(message)
+                .accountIds(accountIds.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .attempts(1)
+                .createdAt(now)
+                .nextAttemptAt(now.plus(appProperties.getNotificationRetryDelay()))
+                .lastError(abbreviate(String.valueOf(cause.getMessage())))
+                .build());
+    }
+
+    /**
+     * 다시 만들 차례가 된 묶음을 최대 batchSize 개 가져오면서 다음 시도 시각을 뒤로 미뤄 둔다.
+     */
+    public List<FailedNotificationBatch> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<FailedNotificationBatch> due = failedNotificationBatchRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(now,
+                PageRequest.of(0, batchSize));
+        due.forEach(batch -> batch.setNextAttemptAt(now.plus(appProperties.getNotificationClaimTimeout())));
+        return due;
+    }
+
+    public void markDone(FailedNotificationBatch batch) {
+        failedNotificationBatchRepository.deleteById(batch.getId());
+    }
+
+    public void markFailed(FailedNotificationBatch batch, Exception cause) {
+        FailedNotificationBatch failed = failedNotificationBatchRepository.findById(batch.getId()).orElse(null);
+        if (failed == null) {
+            return;
+        }
+
+        int attempts = failed.getAttempts() + 1;
+        failed.setAttempts(attempts);
+        failed.setLastError(abbreviate(String.valueOf(cause.getMessage())));
+        if (attempts >= appProperties.getNotificationMaxAttempts()) {
+            failed.setNextAttemptAt(null);
+            log.error("gave up notifying study {} after {} attempts", failed.getStudyId(), attempts, cause);
+            return;
+        }
+
+        failed.setNextAttemptAt(LocalDateTime.now().plus(appProperties.getNotificationRetryDelay().multipliedBy(attempts)));
+        log.warn("failed to notify study {} ({} attempts): {}", failed.getStudyId(), attempts, failed.getLastError());
+    }
+
+    static List<Long> accountIdsOf(FailedNotificationBatch batch) {
+        return Arrays.stream(batch.getAccountIds().split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    private String abbreviate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
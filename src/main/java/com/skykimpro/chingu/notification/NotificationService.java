@@ -0,0 +1,48 @@
+package com.skykimpro.chingu.notification;
+
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class NotificationService {
+
+    public static final int NOTIFICATIONS_PAGE_SIZE = 50;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounter notificationCounter;
+
+    public List<Notification> getNotifications(Account account, boolean checked) {
+        return notificationRepository.findByAccountIdAndCheckedOrderByCreatedDateTimeDesc(account.getId(), checked,
+                PageRequest.of(0, NOTIFICATIONS_PAGE_SIZE));
+    }
+
+    public long countNotifications(Account account, boolean checked) {
+        return notificationRepository.countByAccountIdAndChecked(account.getId(), checked);
+    }
+
+    /**
+     * 새 알림 목록에 보여준 알림만 한 번의 update 로 읽음으로 바꾸고, 커밋되면 바꾼 수만큼 읽지 않은 알림 수를 줄인다.
+     * 한 화면에 다 보여줬으면 읽지 않은 알림이 남지 않으므로 0으로 맞춘다.
+     */
+    public void markAsChecked(Account account, List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<Long> ids = notifications.stream().map(Notification::getId).collect(Collectors.toList());
+        int checked = notificationRepository.markAsChecked(account.getId(), ids);
+        if (notifications.size() < NOTIFICATIONS_PAGE_SIZE) {
+            notificationCounter.resetAfterCommit(account.getId());
+        } else {
+            notificationCounter.decrementAfterCommit(account.getId(), checked);
+        }
+    }
+}
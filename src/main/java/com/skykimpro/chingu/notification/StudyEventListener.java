@@ -0,0 +1,254 @@
+package com.skykimpro.chingu.notification;
+
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.config.AppProperties;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.FailedNotificationBatch;
+import com.skykimpro.chingu.domain.Notification;
+import com.skykimpro.chingu.domain.NotificationType;
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.domain.Tag;
+import com.skykimpro.chingu.domain.Zone;
+import com.skykimpro.chingu.interest.InterestIndex;
+import com.skykimpro.chingu.live.LiveEventBroadcaster;
+import com.skykimpro.chingu.mail.EmailMessage;
+import com.skykimpro.chingu.mail.EmailService;
+import com.skykimpro.chingu.mail.MailTemplateRenderer;
+import com.skykimpro.chingu.study.StudyCreatedEvent;
+import com.skykimpro.chingu.study.StudyRepository;
+import com.skykimpro.chingu.study.StudyUpdateEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 동아리 이벤트를 받아 알림을 보낸다. 요청 스레드에서는 커밋된 뒤 작업만 넘기고,
+ * notificationExecutor 에서 받는 사람 id를 집합으로 구한 다음 notificationBatchSize 명씩 끊어서
+ * 계정 조회, 웹 알림 저장, 메일 outbox 저장을 각각 한 트랜잭션으로 처리한다.
+ * 받는 사람이 많아도 트랜잭션과 영속성 컨텍스트가 한 묶음 크기를 넘지 않는다.
+ * 저장하지 못한 묶음은 NotificationRetryQueue 에 남겨 두고 주기적으로 다시 만든다.
+ * 지연 초기화를 켜도 주기 작업이 등록되도록 즉시 생성한다. InterestIndex 는 만들 때 DB를 모두 읽으므로
+ * 스키마가 준비되기 전에 이 빈과 함께 만들어지지 않도록 처음 쓸 때 가져온다.
+ */
+@Slf4j
+@Lazy(false)
+@Component
+public class StudyEventListener {
+
+    private static final int RETRY_BATCH_SIZE = 10;
+
+    private final StudyRepository studyRepository;
+    private final AccountRepository accountRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounter notificationCounter;
+    private final NotificationRetryQueue notificationRetryQueue;
+    private final LiveEventBroadcaster liveEventBroadcaster;
+    private final InterestIndex interestIndex;
+    private final EmailService emailService;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TaskExecutor notificationExecutor;
+    private final AppProperties appProperties;
+
+    public StudyEventListener(StudyRepository studyRepository, AccountRepository accountRepository,
+                              NotificationRepository notificationRepository, NotificationCounter notificationCounter,
+                              NotificationRetryQueue notificationRetryQueue,
+                              LiveEventBroadcaster liveEventBroadcaster,
+                              @Lazy InterestIndex interestIndex,
+                              EmailService emailService, MailTemplateRenderer mailTemplateRenderer,
+                              TransactionTemplate transactionTemplate,
+                              @Qualifier("notificationExecutor") TaskExecutor notificationExecutor,
+                              AppProperties appProperties) {
+        this.studyRepository = studyRepository;
+        this.accountRepository = accountRepository;
+        this.notificationRepository = notificationRepository;
+        this.notificationCounter = notificationCounter;
+        this.notificationRetryQueue = notificationRetryQueue;
+        this.liveEventBroadcaster = liveEventBroadcaster;
+        this.interestIndex = interestIndex;
+        this.emailService = emailService;
+        this.mailTemplateRenderer = mailTemplateRenderer;
+        this.transactionTemplate = transactionTemplate;
+        // 동아리를 읽기만 하는 조회는 flush 하지 않게 해서, 읽는 동안 변경으로 잡힌 동아리의 버전을 올리지 않는다.
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.notificationExecutor = notificationExecutor;
+        this.appProperties = appProperties;
+    }
+
+    @TransactionalEventListener
+    public void handleStudyCreatedEvent(StudyCreatedEvent event) {
+        notificationExecutor.execute(() -> notifyStudyCreated(event.getStudyId()));
+    }
+
+    @TransactionalEventListener
+    public void handleStudyUpdateEvent(StudyUpdateEvent event) {
+        notificationExecutor.execute(() -> notifyStudyUpdated(event.getStudyId(), event.getMessage()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification-retry-interval:60000}")
+    public void retryFailedBatches() {
+        notificationExecutor.execute(this::drainFailedBatches);
+    }
+
+    /**
+     * 지금까지 넘겨받은 알림 작업이 모두 끝나면 완료된다.
+     */
+    public CompletableFuture<Void> whenNotified() {
+        return CompletableFuture.runAsync(() -> { }, notificationExecutor);
+    }
+
+    private void notifyStudyCreated(Long studyId) {
+        Study study = findStudy(studyId);
+        if (study == null) {
+            return;
+        }
+
+        List<Long> tagIds = study.getTags().stream().map(Tag::getId).collect(Collectors.toList());
+        List<Long> zoneIds = study.getZones().stream().map(Zone::getId).collect(Collectors.toList());
+        Roaring64NavigableMap recipients = interestIndex.findAccounts(tagIds, zoneIds);
+        fanOut(study, recipients, NotificationType.STUDY_CREATED, "새로운 동아리가 생겼습니다.");
+    }
+
+    private void notifyStudyUpdated(Long studyId, String message) {
+        Study study = findStudy(studyId);
+        if (study == null) {
+            return;
+        }
+
+        Roaring64NavigableMap recipients = new Roaring64NavigableMap();
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            studyRepository.findManagerIds(studyId).forEach(recipients::addLong);
+            studyRepository.findMemberIds(studyId).forEach(recipients::addLong);
+        });
+        fanOut(study, recipients, NotificationType.STUDY_UPDATED, message);
+    }
+
+    private Study findStudy(Long studyId) {
+        return readOnlyTransactionTemplate.execute(status -> studyRepository.findDistinctWithTagsAndZonesByIdIn(List.of(studyId))
+                .stream().findFirst().orElse(null));
+    }
+
+    private void fanOut(Study study, Roaring64NavigableMap recipients, NotificationType type, String message) {
+        long started = System.nanoTime();
+        int batchSize = appProperties.getNotificationBatchSize();
+        List<Long> batch = new ArrayList<>(batchSize);
+        LongIterator iterator = recipients.getLongIterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == batchSize || !iterator.hasNext()) {
+                List<Long> accountIds = List.copyOf(batch);
+                batch.clear();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> notifyBatch(study, accountIds, type, message));
+                } catch (RuntimeException e) {
+                    log.error("동아리 {} 알림을 계정 {}명에게 보내지 못해서 나중에 다시 보냅니다.", study.getId(), accountIds.size(), e);
+                    recordFailedBatch(study, accountIds, type, message, e);
+                }
+            }
+        }
+        log.info("동아리 {} 알림({})을 {}명에게 {}ms 동안 보냈습니다.", study.getId(), type,
+                recipients.getLongCardinality(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void recordFailedBatch(Study study, List<Long> accountIds, NotificationType type, String message, Exception cause) {
+        try {
+            notificationRetryQueue.record(study.getId(), type, message, accountIds, cause);
+        } catch (RuntimeException e) {
+            log.error("동아리 {} 알림 {}명을 재시도 대상으로 남기지 못했습니다.", study.getId(), accountIds.size(), e);
+        }
+    }
+
+    void drainFailedBatches() {
+        List<FailedNotificationBatch> due;
+        do {
+            due = notificationRetryQueue.claimDue(RETRY_BATCH_SIZE);
+            for (FailedNotificationBatch batch : due) {
+                retry(batch);
+            }
+        } while (due.size() == RETRY_BATCH_SIZE);
+    }
+
+    private void retry(FailedNotificationBatch batch) {
+        try {
+            Study study = findStudy(batch.getStudyId());
+            if (study != null) {
+                transactionTemplate.executeWithoutResult(status -> notifyBatch(study,
+                        NotificationRetryQueue.accountIdsOf(batch), batch.getNotificationType(), batch.getMessage()));
+            }
+            notificationRetryQueue.markDone(batch);
+        } catch (RuntimeException e) {
+            notificationRetryQueue.markFailed(batch, e);
+        }
+    }
+
+    private void notifyBatch(Study study, List<Long> accountIds, NotificationType type, String message) {
+        String link = "/study/" + URLEncoder.encode(study.getPath(), StandardCharsets.UTF_8);
+        Predicate<Account> byWeb = type == NotificationType.STUDY_CREATED ? Account::isStudyCreatedByWeb : Account::isStudyUpdatedByWeb;
+        Predicate<Account> byEmail = type == NotificationType.STUDY_CREATED ? Account::isStudyCreatedByEmail : Account::isStudyUpdatedByEmail;
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>();
+        List<Map<String, Object>> mailVariables = new ArrayList<>();
+        List<String> mailRecipients = new ArrayList<>();
+        for (Account account : accountRepository.findAllById(accountIds)) {
+            if (byWeb.test(account)) {
+                notifications.add(Notification.builder()
+                        .title(study.getTitle())
+                        .link(link)
+                        .message(message)
+                        .account(account)
+                        .createdDateTime(now)
+                        .notificationType(type)
+                        .build());
+            }
+            if (byEmail.test(account)) {
+                Map<String, Object> variables = new HashMap<>();
+                variables.put("link", link);
+                variables.put("nickname", account.getNickname());
+                variables.put("linkName", study.getTitle());
+                variables.put("message", message);
+                variables.put("host", appProperties.getHost());
+                mailVariables.add(variables);
+                mailRecipients.add(account.getEmail());
+            }
+        }
+
+        notificationRepository.saveAll(notifications);
+        List<Long> notifiedAccountIds = notifications.stream()
+                .map(notification -> notification.getAccount().getId())
+                .collect(Collectors.toList());
+        notificationCounter.incrementAfterCommit(notifiedAccountIds);
+        liveEventBroadcaster.sendToAccountsAfterCommit(notifiedAccountIds, "notification",
+                Map.of("title", study.getTitle(), "message", message, "link", link));
+
+        List<String> bodies = mailTemplateRenderer.renderAll("mail/simple-link", mailVariables);
+        List<EmailMessage> emailMessages = new ArrayList<>(bodies.size());
+        for (int i = 0; i < bodies.size(); i++) {
+            emailMessages.add(EmailMessage.builder()
+                    .to(mailRecipients.get(i))
+                    .subject("Chingu, '" + study.getTitle() + "' " + message)
+                    .message(bodies.get(i))
+                    .build());
+        }
+        emailService.sendEmails(emailMessages);
+    }
+}
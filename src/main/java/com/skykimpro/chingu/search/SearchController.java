@@ -0,0 +1,27 @@
+package com.skykimpro.chingu.search;
+
+import com.skykimpro.chingu.domain.Study;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Controller
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final StudySearchService studySearchService;
+
+    @GetMapping("/search/study")
+    public String searchStudy(@RequestParam(required = false, defaultValue = "") String keyword,
+                              @PageableDefault(size = 9) Pageable pageable, Model model){
+        Page<Study> studyPage = studySearchService.searchStudies(keyword, pageable);
+        model.addAttribute("keyword", keyword);
+        model.addAttribute("studyPage", studyPage);
+        return "search";
+    }
+}
@@ -0,0 +1,306 @@
+package com.skykimpro.chingu.search;
+
+import com.skykimpro.chingu.config.AppProperties;
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.domain.Tag;
+import com.skykimpro.chingu.domain.Zone;
+import com.skykimpro.chingu.study.StudyChangedEvent;
+import com.skykimpro.chingu.study.StudyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 동아리 검색용 Lucene 색인. 제목, 짧은 소개, 긴 소개, 태그, 지역을 색인하고 제목과 태그에 가중치를 더 준다.
+ * 한글은 CJKAnalyzer 로 두 글자씩 잘라서 색인하므로 형태소 분석 없이 부분 일치로 찾는다.
+ * 동아리가 바뀌면 커밋된 뒤에 searchIndexExecutor 한 스레드에서 순서대로 다시 색인한다.
+ * app.search-index-dir 가 비어 있으면 메모리에 색인하고 시작할 때마다 DB에서 다시 만든다.
+ * 파일에 색인하면 문서마다 색인한 동아리 버전을 남겨 두고, 시작할 때 DB의 버전과 비교해서
+ * 꺼져 있는 동안 바뀌거나 생긴 동아리는 다시 색인하고 지워진 동아리는 색인에서 뺀다.
+ */
+@Slf4j
+@Component
+public class StudySearchIndex {
+
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String SHORT_DESCRIPTION = "shortDescription";
+    static final String FULL_DESCRIPTION = "fullDescription";
+    static final String TAGS = "tags";
+    static final String ZONES = "zones";
+    static final String PUBLISHED = "published";
+    static final String VERSION = "version";
+
+    private static final Set<String> VERSION_FIELDS = Set.of(ID, VERSION);
+
+    private static final Map<String, Float> BOOSTS = Map.of(
+            TITLE, 3f, TAGS, 2f, ZONES, 2f, SHORT_DESCRIPTION, 1.5f, FULL_DESCRIPTION, 1f);
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final StudyRepository studyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor searchIndexExecutor;
+    private final AppProperties appProperties;
+
+    private final Analyzer analyzer = new CJKAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    public StudySearchIndex(StudyRepository studyRepository, PlatformTransactionManager transactionManager,
+                            @Qualifier("searchIndexExecutor") TaskExecutor searchIndexExecutor,
+                            AppProperties appProperties) {
+        this.studyRepository = studyRepository;
+        // 색인은 읽기만 한다. 지연 로딩한 소개 때문에 변경으로 잡힌 동아리를 flush 해서 버전을 올리지 않게 읽기 전용으로 연다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.searchIndexExecutor = searchIndexExecutor;
+        this.appProperties = appProperties;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        String indexDir = appProperties.getSearchIndexDir();
+        directory = StringUtils.hasText(indexDir) ? FSDirectory.open(Paths.get(indexDir)) : new ByteBuffersDirectory();
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+
+        if (writer.getDocStats().numDocs == 0) {
+            searchIndexExecutor.execute(this::rebuild);
+        } else {
+            searchIndexExecutor.execute(this::catchUp);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    @TransactionalEventListener
+    public void handleStudyChangedEvent(StudyChangedEvent event) {
+        searchIndexExecutor.execute(() -> reindex(List.of(event.getStudyId())));
+    }
+
+    /**
+     * 지금까지 요청된 색인 작업이 모두 끝나면 완료된다.
+     */
+    public CompletableFuture<Void> whenIndexed() {
+        return CompletableFuture.runAsync(() -> { }, searchIndexExecutor);
+    }
+
+    /**
+     * 공개된 동아리 중 keyword 와 관련도가 높은 순서로 id를 반환한다.
+     */
+    public Page<Long> search(String keyword, Pageable pageable) {
+        Query query = parse(keyword);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize()));
+                List<Long> ids = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = (int) pageable.getOffset(); i < scoreDocs.length; i++) {
+                    ids.add(searcher.doc(scoreDocs[i].doc).getField(ID).numericValue().longValue());
+                }
+                return new PageImpl<>(ids, pageable, topDocs.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Query parse(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(BOOSTS.keySet().toArray(new String[0]), analyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        // 두 글자씩 잘린 한 단어는 구문으로 묶어서 "스프링" 이 "스프" 만 들어간 동아리와 일치하지 않게 한다.
+        parser.setSplitOnWhitespace(true);
+        parser.setAutoGeneratePhraseQueries(true);
+        try {
+            Query text = parser.parse(QueryParser.escape(keyword.strip()));
+            return new BooleanQuery.Builder()
+                    .add(text, BooleanClause.Occur.MUST)
+                    .add(new TermQuery(new Term(PUBLISHED, "true")), BooleanClause.Occur.FILTER)
+                    .build();
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private void rebuild() {
+        List<Long> ids = transactionTemplate.execute(status -> studyRepository.findAllIds());
+        reindexInBatches(ids);
+        log.info("동아리 {}개로 검색 색인을 만들었습니다.", ids.size());
+    }
+
+    private void catchUp() {
+        try {
+            Map<Long, Long> indexed = indexedVersions();
+            List<Object[]> current = transactionTemplate.execute(status -> studyRepository.findAllIdsAndVersions());
+            List<Long> stale = new ArrayList<>();
+            for (Object[] row : current) {
+                Long id = (Long) row[0];
+                Long indexedVersion = indexed.remove(id);
+                if (indexedVersion == null || indexedVersion != versionOf((Long) row[1])) {
+                    stale.add(id);
+                }
+            }
+            // DB에 없는데 색인에 남은 문서는 꺼져 있는 동안 지워진 동아리다.
+            if (!indexed.isEmpty()) {
+                for (Long removed : indexed.keySet()) {
+                    writer.deleteDocuments(new Term(ID + "Key", removed.toString()));
+                }
+                writer.commit();
+                searcherManager.maybeRefresh();
+            }
+            reindexInBatches(stale);
+            log.info("검색 색인을 맞췄습니다. 다시 색인한 동아리 {}개, 뺀 동아리 {}개", stale.size(), indexed.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("검색 색인을 DB와 맞추지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 색인에 있는 동아리 id 와 색인할 때의 버전. 버전을 남기기 전에 만든 문서는 null 이다.
+     */
+    private Map<Long, Long> indexedVersions() throws IOException {
+        Map<Long, Long> versions = new HashMap<>();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                LeafReader reader = leaf.reader();
+                Bits liveDocs = reader.getLiveDocs();
+                for (int doc = 0; doc < reader.maxDoc(); doc++) {
+                    if (liveDocs != null && !liveDocs.get(doc)) {
+                        continue;
+                    }
+                    Document document = reader.document(doc, VERSION_FIELDS);
+                    IndexableField version = document.getField(VERSION);
+                    versions.put(document.getField(ID).numericValue().longValue(),
+                            version != null ? version.numericValue().longValue() : null);
+                }
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+        return versions;
+    }
+
+    private void reindexInBatches(List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += REBUILD_BATCH_SIZE) {
+            reindex(ids.subList(from, Math.min(ids.size(), from + REBUILD_BATCH_SIZE)));
+        }
+    }
+
+    private long versionOf(Long version) {
+        return version != null ? version : 0L;
+    }
+
+    private void reindex(List<Long> studyIds) {
+        try {
+            List<Document> documents = transactionTemplate.execute(status -> {
+                List<Document> result = new ArrayList<>();
+                studyRepository.findDistinctWithTagsAndZonesByIdIn(studyIds).forEach(study -> result.add(toDocument(study)));
+                return result;
+            });
+            for (Long studyId : studyIds) {
+                writer.deleteDocuments(new Term(ID + "Key", studyId.toString()));
+            }
+            for (Document document : documents) {
+                writer.addDocument(document);
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            log.error("동아리 {} 를 색인하지 못했습니다.", studyIds, e);
+        }
+    }
+
+    private Document toDocument(Study study) {
+        Document document = new Document();
+        document.add(new StringField(ID + "Key", study.getId().toString(), Field.Store.NO));
+        document.add(new StoredField(ID, study.getId()));
+        document.add(new StoredField(VERSION, versionOf(study.getVersion())));
+        document.add(new TextField(TITLE, nullToEmpty(study.getTitle()), Field.Store.NO));
+        document.add(new TextField(SHORT_DESCRIPTION, nullToEmpty(study.getShortDescription()), Field.Store.NO));
+        document.add(new TextField(FULL_DESCRIPTION, stripHtml(study.getFullDescription()), Field.Store.NO));
+        for (Tag tag : study.getTags()) {
+            document.add(new TextField(TAGS, tag.getTitle(), Field.Store.NO));
+        }
+        for (Zone zone : study.getZones()) {
+            document.add(new TextField(ZONES, zone.getLocalNameOfCity() + " " + zone.getCity() + " " + nullToEmpty(zone.getProvince()), Field.Store.NO));
+        }
+        document.add(new StringField(PUBLISHED, Boolean.toString(study.isPublished()), Field.Store.NO));
+        return document;
+    }
+
+    private String stripHtml(String html) {
+        return html == null ? "" : html.replaceAll("<[^>]*>", " ").replace("&nbsp;", " ");
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
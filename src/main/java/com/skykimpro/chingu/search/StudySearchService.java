@@ -0,0 +1,38 @@
+package com.skykimpro.chingu.search;
+
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.study.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class StudySearchService {
+
+    private final StudySearchIndex studySearchIndex;
+    private final StudyRepository studyRepository;
+
+    /**
+     * 색인에서 찾은 순위대로 동아리를 태그, 지역과 함께 읽어온다.
+     * 색인이 갱신되기 전에 삭제된 동아리는 결과에서 빠진다.
+     */
+    public Page<Study> searchStudies(String keyword, Pageable pageable) {
+        Page<Long> ids = studySearchIndex.search(keyword, pageable);
+        if (ids.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<Study> studies = new ArrayList<>(studyRepository.findDistinctWithTagsAndZonesByIdIn(ids.getContent()));
+        studies.sort(Comparator.comparingInt(study -> ids.getContent().indexOf(study.getId())));
+        return new PageImpl<>(studies, pageable, ids.getTotalElements());
+    }
+}
@@ -1,9 +1,8 @@
 package com.skykimpro.chingu.settings;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skykimpro.chingu.domain.Zone;
 import com.skykimpro.chingu.tag.TagRepository;
+import com.skykimpro.chingu.account.AccountMapper;
 import com.skykimpro.chingu.account.AccountService;
 import com.skykimpro.chingu.account.CurrentUser;
 import com.skykimpro.chingu.domain.Account;
@@ -11,10 +10,11 @@ import com.skykimpro.chingu.domain.Tag;
 import com.skykimpro.chingu.settings.form.*;
 import com.skykimpro.chingu.settings.validator.NicknameValidator;
 import com.skykimpro.chingu.settings.validator.PasswordFormValidator;
+import com.skykimpro.chingu.settings.validator.ProfileValidator;
 import com.skykimpro.chingu.tag.TagService;
-import com.skykimpro.chingu.zone.ZoneRepository;
+import com.skykimpro.chingu.zone.ZoneService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -24,7 +24,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -43,12 +42,12 @@ public class SettingsController {
     static final String ZONES = "/zones";
 
     private final AccountService accountService;
-    private final ModelMapper modelMapper;
+    private final AccountMapper accountMapper;
     private final NicknameValidator nicknameValidator;
+    private final ProfileValidator profileValidator;
     private final TagService tagService;
     private final TagRepository tagRepository;
-    private final ZoneRepository zoneRepository;
-    private final ObjectMapper objectMapper;
+    private final ZoneService zoneService;
 
     @InitBinder("passwordForm")
     public void passwordFormInitBinder(WebDataBinder webDataBinder){
@@ -60,10 +59,15 @@ public class SettingsController {
         webDataBinder.addValidators(nicknameValidator);
     }
 
+    @InitBinder("profile")
+    public void profileInitBinder(WebDataBinder webDataBinder){
+        webDataBinder.addValidators(profileValidator);
+    }
+
     @GetMapping(PROFILE)
     public String profileUpdateForm(@CurrentUser Account account, Model model){
         model.addAttribute(account);
-        model.addAttribute(modelMapper.map(account, Profile.class));
+        model.addAttribute(accountMapper.toProfile(account));
         return SETTINGS + PROFILE;
     }
 
@@ -103,7 +107,7 @@ public class SettingsController {
     @GetMapping(NOTIFICATIONS)
     public String updateNotificatonForm(@CurrentUser Account account, Model model){
         model.addAttribute(account);
-        model.addAttribute(modelMapper.map(account, Notifications.class));
+        model.addAttribute(accountMapper.toNotifications(account));
         return SETTINGS + NOTIFICATIONS;
     }
 
@@ -123,7 +127,7 @@ public class SettingsController {
     @GetMapping(ACCOUNT)
     public String updateAccountForm(@CurrentUser Account account, Model model){
         model.addAttribute(account);
-        model.addAttribute(modelMapper.map(account, NicknameForm.class));
+        model.addAttribute(accountMapper.toNicknameForm(account));
         return SETTINGS + ACCOUNT;
     }
 
@@ -135,18 +139,26 @@ public class SettingsController {
             return SETTINGS + ACCOUNT;
         }
 
-        accountService.updateNickname(account, nicknameForm.getNickname());
+        try {
+            accountService.updateNickname(account, nicknameForm.getNickname());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버에서 먼저 쓴 닉네임은 필터에 넣은 뒤 다시 검증하면 DB 로 확인된다.
+            nicknameValidator.validate(nicknameForm, errors);
+            if (!errors.hasErrors()) {
+                throw e;
+            }
+            model.addAttribute(account);
+            return SETTINGS + ACCOUNT;
+        }
         attributes.addFlashAttribute("message","닉네임을 수정했습니다.");
         return "redirect:/" + SETTINGS + ACCOUNT;
     }
 
     @GetMapping(TAGS)
-    public String updateTags(@CurrentUser Account account, Model model) throws JsonProcessingException {
+    public String updateTags(@CurrentUser Account account, Model model) {
         model.addAttribute(account);
         Set<Tag> tags = accountService.getTags(account);
         model.addAttribute("tags", tags.stream().map(Tag::getTitle).collect(Collectors.toList()));
-        List<String> allTags = tagRepository.findAll().stream().map(Tag::getTitle).collect(Collectors.toList());
-        model.addAttribute("whitelist",objectMapper.writeValueAsString(allTags));
 
         return SETTINGS + TAGS;
     }
@@ -174,12 +186,10 @@ public class SettingsController {
     }
 
     @GetMapping(ZONES)
-    public String updateZones(@CurrentUser Account account, Model model) throws JsonProcessingException {
+    public String updateZones(@CurrentUser Account account, Model model) {
         model.addAttribute(account);
         Set<Zone> zones = accountService.getZones(account);
         model.addAttribute("zones", zones.stream().map(Zone::toString).collect(Collectors.toList()));
-        List<String> allZones = zoneRepository.findAll().stream().map(Zone::toString).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
 
         return SETTINGS + ZONES;
     }
@@ -187,7 +197,7 @@ public class SettingsController {
     @PostMapping(ZONES + "/add")
     @ResponseBody
     public ResponseEntity addZone(@CurrentUser Account account, @RequestBody ZoneForm zoneForm){
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneService.getZone(zoneForm.getCityName(), zoneForm.getProvinceName());
         if(zone == null){
             return ResponseEntity.badRequest().build();
         }
@@ -199,7 +209,7 @@ public class SettingsController {
     @PostMapping(ZONES + "/remove")
     @ResponseBody
     public ResponseEntity removeZone(@CurrentUser Account account, @RequestBody ZoneForm zoneForm){
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneService.getZone(zoneForm.getCityName(), zoneForm.getProvinceName());
         if(zone == null){
             return ResponseEntity.badRequest().build();
         }
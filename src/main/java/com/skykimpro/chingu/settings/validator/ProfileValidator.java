@@ -0,0 +1,28 @@
+package com.skykimpro.chingu.settings.validator;
+
+import com.skykimpro.chingu.image.ImageService;
+import com.skykimpro.chingu.settings.form.Profile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+@Component
+@RequiredArgsConstructor
+public class ProfileValidator implements Validator {
+
+    private final ImageService imageService;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return Profile.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        Profile profile = (Profile)target;
+        if(!imageService.isValid(profile.getProfileImage())){
+            errors.rejectValue("profileImage", "wrong.value", "이미지 형식이 올바르지 않습니다.");
+        }
+    }
+}
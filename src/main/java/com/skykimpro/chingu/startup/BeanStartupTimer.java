@@ -0,0 +1,84 @@
+package com.skykimpro.chingu.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 빈마다 생성부터 초기화까지 걸린 시간을 재서 애플리케이션이 준비되면 오래 걸린 순서로 로그에 남긴다.
+ * 의존하는 빈을 만드는 시간은 빼고 자기 자신에게 걸린 시간만 센다. app.startup-report=true 일 때만 등록된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("app.startup-report")
+public class BeanStartupTimer implements InstantiationAwareBeanPostProcessor, ApplicationListener<ApplicationReadyEvent> {
+
+    static final int REPORT_SIZE = 20;
+
+    private final ThreadLocal<Deque<Frame>> creating = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final Map<String, Long> selfNanos = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
+        creating.get().push(new Frame(beanName, System.nanoTime()));
+        return null;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Deque<Frame> stack = creating.get();
+        // FactoryBean 이 만든 객체처럼 생성 시작을 보지 못한 빈은 건너뛴다.
+        if (stack.isEmpty() || !stack.peek().beanName.equals(beanName)) {
+            return bean;
+        }
+
+        Frame frame = stack.pop();
+        long total = System.nanoTime() - frame.start;
+        selfNanos.merge(beanName, total - frame.childNanos, Long::sum);
+        if (!stack.isEmpty()) {
+            stack.peek().childNanos += total;
+        }
+        return bean;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        long totalNanos = selfNanos.values().stream().mapToLong(Long::longValue).sum();
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("빈 %d개 생성에 %d ms 가 걸렸습니다. 오래 걸린 빈:", selfNanos.size(), Duration.ofNanos(totalNanos).toMillis()));
+        selfNanos.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(REPORT_SIZE)
+                .forEach(entry -> report.append(String.format("%n  %6d ms  %s", Duration.ofNanos(entry.getValue()).toMillis(), entry.getKey())));
+        log.info(report.toString());
+    }
+
+    Map<String, Long> getSelfNanos() {
+        return selfNanos;
+    }
+
+    private static class Frame {
+
+        private final String beanName;
+
+        private final long start;
+
+        private long childNanos;
+
+        private Frame(String beanName, long start) {
+            this.beanName = beanName;
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.skykimpro.chingu.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작이 끝나면 바로 종료한다. CDS 아카이브를 만들 때 시작하면서 읽는 클래스 목록만 얻으려고 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty("app.exit-after-startup")
+public class ExitAfterStartup implements ApplicationListener<ApplicationReadyEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        log.info("app.exit-after-startup 설정에 따라 종료합니다.");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
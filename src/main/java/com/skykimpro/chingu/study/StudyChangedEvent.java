@@ -0,0 +1,14 @@
+package com.skykimpro.chingu.study;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 동아리의 검색 대상 정보(제목, 소개, 태그, 지역, 공개 여부)가 바뀌었을 때 발행한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudyChangedEvent {
+
+    private final Long studyId;
+}
@@ -6,7 +6,7 @@ import com.skykimpro.chingu.domain.Study;
 import com.skykimpro.chingu.study.form.StudyForm;
 import com.skykimpro.chingu.study.validator.StudyFormValidator;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.beans.propertyeditors.URLEditor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -16,10 +16,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import javax.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Controller
 @RequiredArgsConstructor
@@ -27,7 +30,7 @@ public class StudyController {
 
     private final StudyRepository studyRepository;
     private final StudyService studyService;
-    private final ModelMapper modelMapper;
+    private final StudyMapper studyMapper;
     private final StudyFormValidator studyFormValidator;
 
     @InitBinder("studyForm")
@@ -44,13 +47,45 @@ public class StudyController {
     }
 
     @GetMapping("/study/{path}/members")
-    public String viewStudyMembers(@CurrentUser Account account, @PathVariable String path, Model model){
-        Study study = studyService.getStudy(path);
+    public String viewStudyMembers(@CurrentUser Account account, @PathVariable String path,
+                                   @RequestParam(required = false) Long after, Model model){
+        Study study = after == null ? studyService.getStudyWithManagers(path) : studyService.getStudy(path);
+        List<Account> members = studyService.getMembers(study, after);
         model.addAttribute(account);
         model.addAttribute(study);
+        model.addAttribute("members", members);
+        if(members.size() == StudyService.MEMBERS_PAGE_SIZE){
+            model.addAttribute("nextMemberId", members.get(members.size() - 1).getId());
+        }
         return "study/members";
     }
 
+    /**
+     * 두 번 누른 가입이나 모집이 끝난 뒤의 가입은 insert 가 0건이라 IllegalStateException 으로,
+     * 동시에 들어온 같은 가입은 기본 키 충돌로 끝나므로 둘 다 구성원 화면에 메시지로 돌려준다.
+     */
+    @PostMapping("/study/{path}/join")
+    public String joinStudy(@CurrentUser Account account, @PathVariable String path, RedirectAttributes attributes) {
+        Study study = studyService.getStudy(path);
+        try {
+            studyService.addMember(study, account);
+        } catch (IllegalStateException | DataIntegrityViolationException e) {
+            attributes.addFlashAttribute("message", "이미 가입했거나 모집 중이 아닌 동아리입니다.");
+        }
+        return "redirect:/study/" + study.getEncodedPath() + "/members";
+    }
+
+    @PostMapping("/study/{path}/leave")
+    public String leaveStudy(@CurrentUser Account account, @PathVariable String path, RedirectAttributes attributes) {
+        Study study = studyService.getStudy(path);
+        try {
+            studyService.removeMember(study, account);
+        } catch (IllegalStateException e) {
+            attributes.addFlashAttribute("message", "가입하지 않은 동아리입니다.");
+        }
+        return "redirect:/study/" + study.getEncodedPath() + "/members";
+    }
+
     @GetMapping("/new-study")
     public String newStudyForm(@CurrentUser Account account, Model model){
         model.addAttribute(account);
@@ -64,7 +99,17 @@ public class StudyController {
             return "study/form";
         }
 
-        Study newStudy = studyService.createNewStudy(modelMapper.map(studyForm, Study.class), account);
+        Study newStudy;
+        try {
+            newStudy = studyService.createNewStudy(studyMapper.toStudy(studyForm), account);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버에서 먼저 만든 경로는 필터에 넣은 뒤 다시 검증하면 DB 로 확인된다.
+            studyFormValidator.validate(studyForm, errors);
+            if (!errors.hasErrors()) {
+                throw e;
+            }
+            return "study/form";
+        }
         return "redirect:/study/" + URLEncoder.encode(newStudy.getPath(), StandardCharsets.UTF_8);
     }
 }
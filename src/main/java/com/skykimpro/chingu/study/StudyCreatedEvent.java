@@ -0,0 +1,14 @@
+package com.skykimpro.chingu.study;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 동아리를 공개했을 때 발행한다. 관심 태그와 지역이 겹치는 사용자에게 새 동아리를 알린다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudyCreatedEvent {
+
+    private final Long studyId;
+}
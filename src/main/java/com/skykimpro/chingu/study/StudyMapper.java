@@ -0,0 +1,24 @@
+package com.skykimpro.chingu.study;
+
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.study.form.StudyDescriptionForm;
+import com.skykimpro.chingu.study.form.StudyForm;
+import org.mapstruct.Builder;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Study와 폼 사이의 매핑. 빌더를 쓰면 컬렉션 필드가 null로 남으므로 기본 생성자를 쓴다.
+ */
+@Mapper(componentModel = "spring",
+        builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface StudyMapper {
+
+    Study toStudy(StudyForm studyForm);
+
+    StudyDescriptionForm toDescriptionForm(Study study);
+
+    void updateDescription(StudyDescriptionForm studyDescriptionForm, @MappingTarget Study study);
+}
@@ -0,0 +1,58 @@
+package com.skykimpro.chingu.study;
+
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 동아리 관리자/구성원 여부를 managers, members 컬렉션을 읽지 않고 조인 테이블에 있는지만 물어서 확인한다.
+ * 한 화면에서 같은 질문을 여러 번 하므로 웹 요청 안에서는 요청 속성에 답을 기억해 두고, 요청 밖에서는 매번 조회한다.
+ * 템플릿에서는 ${@studyMembershipService.isManager(study, account)} 처럼 쓴다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class StudyMembershipService {
+
+    private static final String MEMO_ATTRIBUTE = StudyMembershipService.class.getName() + ".MEMO";
+
+    private final StudyRepository repository;
+
+    public boolean isManager(Study study, Account account) {
+        return account != null && memo("manager", study, account,
+                () -> repository.existsByIdAndManagersId(study.getId(), account.getId()));
+    }
+
+    public boolean isMember(Study study, Account account) {
+        return account != null && memo("member", study, account,
+                () -> repository.existsByIdAndMembersId(study.getId(), account.getId()));
+    }
+
+    public boolean isJoinable(Study study, Account account) {
+        return study.isPublished() && study.isRecruiting() && !study.isClosed()
+                && account != null && !isMember(study, account) && !isManager(study, account);
+    }
+
+    private boolean memo(String role, Study study, Account account, BooleanSupplier query) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return query.getAsBoolean();
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Boolean> memo = (Map<String, Boolean>) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memo.computeIfAbsent(role + ":" + study.getId() + ":" + account.getId(), key -> query.getAsBoolean());
+    }
+}
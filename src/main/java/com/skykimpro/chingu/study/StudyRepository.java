@@ -1,22 +1,68 @@
 package com.skykimpro.chingu.study;
 
+import com.skykimpro.chingu.domain.Account;
 import com.skykimpro.chingu.domain.Study;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface StudyRepository extends JpaRepository<Study, Long> {
+import java.util.Collection;
+import java.util.List;
+
+public interface StudyRepository extends JpaRepository<Study, Long>, StudyRepositoryExtension {
 
     boolean existsByPath(String path);
 
-    @EntityGraph(value = "Study.withAll", type = EntityGraph.EntityGraphType.LOAD)
+    @Query("select s.path from Study s")
+    List<String> findAllPaths();
+
+    @Query("select s.id from Study s order by s.id")
+    List<Long> findAllIds();
+
+    @Query("select s.id, s.version from Study s")
+    List<Object[]> findAllIdsAndVersions();
+
+    @EntityGraph(attributePaths = {"tags", "zones"})
+    List<Study> findDistinctWithTagsAndZonesByIdIn(Collection<Long> ids);
+
     Study findByPath(String path);
 
-    @EntityGraph(value = "Study.withTagsAndManagers", type = EntityGraph.EntityGraphType.LOAD)
+    @EntityGraph(value = "Study.withManagers", type = EntityGraph.EntityGraphType.LOAD)
+    Study findStudyWithManagersByPath(String path);
+
+    @EntityGraph(attributePaths = "tags")
     Study findStudyWithTagsByPath(String path);
 
-    @EntityGraph(value = "Study.withZonesAndManagers", type = EntityGraph.EntityGraphType.LOAD)
+    @EntityGraph(attributePaths = "zones")
     Study findStudyWithZonesByPath(String path);
 
-    @EntityGraph(value = "Study.withManagers", type = EntityGraph.EntityGraphType.LOAD)
-    Study findStudyWithManagersByPath(String path);
+    boolean existsByIdAndManagersId(Long id, Long accountId);
+
+    boolean existsByIdAndMembersId(Long id, Long accountId);
+
+    @Query("select m.id from Study s join s.members m where s.id = :id")
+    List<Long> findMemberIds(@Param("id") Long id);
+
+    @Query("select m.id from Study s join s.managers m where s.id = :id")
+    List<Long> findManagerIds(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Study s set s.memberCount = s.memberCount + :delta where s.id = :id")
+    int addMemberCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("select m from Study s join s.members m where s = :study and m.id > :after order by m.id")
+    List<Account> findMembers(@Param("study") Study study, @Param("after") Long after, Pageable pageable);
+
+    /**
+     * 공개되어 모집 중인 동아리 중 태그와 지역이 하나 이상씩 겹치는 동아리를 최근 공개 순으로 찾는다.
+     */
+    @Query("select s.id from Study s where s.published = true and s.closed = false and s.recruiting = true" +
+            " and exists (select t.id from s.tags t where t.id in :tagIds)" +
+            " and exists (select z.id from s.zones z where z.id in :zoneIds)" +
+            " order by s.publishedDateTime desc")
+    List<Long> findRecruitingStudyIds(@Param("tagIds") Collection<Long> tagIds, @Param("zoneIds") Collection<Long> zoneIds,
+                                      Pageable pageable);
 }
@@ -0,0 +1,11 @@
+package com.skykimpro.chingu.study;
+
+public interface StudyRepositoryExtension {
+
+    /**
+     * 공개되어 모집 중이고 아직 가입하지 않은 동아리일 때만 구성원 행을 넣는다. members 컬렉션은 읽지 않는다.
+     */
+    int insertMember(Long studyId, Long accountId);
+
+    int deleteMember(Long studyId, Long accountId);
+}
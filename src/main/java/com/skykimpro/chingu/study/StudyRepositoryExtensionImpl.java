@@ -0,0 +1,45 @@
+package com.skykimpro.chingu.study;
+
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+/**
+ * 구성원 조인 테이블을 직접 쓰는 네이티브 쿼리.
+ * 어떤 테이블을 바꾸는지 알려주지 않으면 하이버네이트가 Account 를 포함한 2차 캐시 영역을 모두 비우므로
+ * study_members 만 바뀐다고 알려준다.
+ */
+public class StudyRepositoryExtensionImpl implements StudyRepositoryExtension {
+
+    private static final String INSERT_MEMBER = "insert into study_members (study_id, members_id) select s.id, :accountId from study s" +
+            " where s.id = :studyId and s.published = true and s.recruiting = true and s.closed = false" +
+            " and not exists (select 1 from study_members sm where sm.study_id = s.id and sm.members_id = :accountId)" +
+            " and not exists (select 1 from study_managers sg where sg.study_id = s.id and sg.managers_id = :accountId)";
+
+    private static final String DELETE_MEMBER = "delete from study_members where study_id = :studyId and members_id = :accountId";
+
+    private static final String MEMBERS_TABLE = "study_members";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertMember(Long studyId, Long accountId) {
+        return executeOnMembers(INSERT_MEMBER, studyId, accountId);
+    }
+
+    @Override
+    public int deleteMember(Long studyId, Long accountId) {
+        return executeOnMembers(DELETE_MEMBER, studyId, accountId);
+    }
+
+    private int executeOnMembers(String sql, Long studyId, Long accountId) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(MEMBERS_TABLE)
+                .setParameter("studyId", studyId)
+                .setParameter("accountId", accountId)
+                .executeUpdate();
+    }
+}
@@ -1,17 +1,20 @@
 package com.skykimpro.chingu.study;
 
+import com.skykimpro.chingu.availability.AvailabilityIndex;
 import com.skykimpro.chingu.domain.Account;
 import com.skykimpro.chingu.domain.Study;
 import com.skykimpro.chingu.domain.Tag;
 import com.skykimpro.chingu.domain.Zone;
+import com.skykimpro.chingu.image.ImageService;
 import com.skykimpro.chingu.study.form.StudyDescriptionForm;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -19,13 +22,20 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class StudyService {
 
+    public static final int MEMBERS_PAGE_SIZE = 20;
+
     private final StudyRepository repository;
-    private final ModelMapper modelMapper;
+    private final StudyMapper studyMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final ImageService imageService;
+    private final AvailabilityIndex availabilityIndex;
+    private final StudyMembershipService studyMembershipService;
 
     public Study createNewStudy(Study study, Account account) {
+        availabilityIndex.addStudyPath(study.getPath());
         Study newStudy = repository.save(study);
         newStudy.addManager(account);
+        eventPublisher.publishEvent(new StudyChangedEvent(newStudy.getId()));
         return newStudy;
     }
 
@@ -38,21 +48,56 @@ public class StudyService {
         return study;
     }
 
-    public Study getStudyToUpdate(Account account, String path) {
-        Study study = this.getStudy(path);
-        if(!account.isManagerOf(study)){
-            throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
+    /**
+     * 관리자 목록을 보여주는 구성원 화면에서만 관리자를 함께 읽는다. 권한 확인은 StudyMembershipService 가 따로 한다.
+     */
+    public Study getStudyWithManagers(String path) {
+        Study study = this.repository.findStudyWithManagersByPath(path);
+        if(study == null){
+            throw new IllegalArgumentException(path + "에 해당하는 동아리가 없습니다.");
         }
 
         return study;
     }
 
+    @Transactional(readOnly = true)
+    public List<Account> getMembers(Study study, Long after) {
+        return repository.findMembers(study, after != null ? after : 0L, PageRequest.of(0, MEMBERS_PAGE_SIZE));
+    }
+
+    /**
+     * 가입 가능 여부는 insert 조건으로 함께 확인하므로 동시에 가입해도 같은 행이 두 번 들어가거나 인원 수를 잃지 않는다.
+     */
+    public void addMember(Study study, Account account) {
+        if (repository.insertMember(study.getId(), account.getId()) == 0) {
+            throw new IllegalStateException("동아리에 가입할 수 없습니다. 모집 중이 아니거나 이미 가입했습니다.");
+        }
+        repository.addMemberCount(study.getId(), 1);
+    }
+
+    public void removeMember(Study study, Account account) {
+        if (repository.deleteMember(study.getId(), account.getId()) == 0) {
+            throw new IllegalStateException("가입하지 않은 동아리입니다.");
+        }
+        repository.addMemberCount(study.getId(), -1);
+    }
+
+    public Study getStudyToUpdate(Account account, String path) {
+        Study study = this.getStudy(path);
+        checkIfManager(account, study);
+        return study;
+    }
+
     public void updateStudyDescription(Study study, StudyDescriptionForm studyDescriptionForm) {
-        modelMapper.map(studyDescriptionForm, study);
+        studyMapper.updateDescription(studyDescriptionForm, study);
+        eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
+        if (study.isPublished()) {
+            eventPublisher.publishEvent(new StudyUpdateEvent(study.getId(), "동아리 소개를 수정했습니다."));
+        }
     }
 
     public void updateStudyImage(Study study, String image) {
-        study.setImage(image);
+        study.setImage(imageService.store(image));
     }
 
     public void enableStudyBanner(Study study) {
@@ -65,18 +110,22 @@ public class StudyService {
 
     public void addTag(Study study, Tag tag) {
         study.getTags().add(tag);
+        eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
     }
 
     public void removeTag(Study study, Tag tag) {
         study.getTags().remove(tag);
+        eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
     }
 
     public void addZone(Study study, Zone zone) {
         study.getZones().add(zone);
+        eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
     }
 
     public void removeZone(Study study, Zone zone) {
         study.getZones().remove(zone);
+        eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
     }
 
     public Study getStudyToUpdateTag(Account account, String path) {
@@ -94,7 +143,7 @@ public class StudyService {
     }
 
     private void checkIfManager(Account account, Study study) {
-        if (!study.isManagedBy(account)) {
+        if (!studyMembershipService.isManager(study, account)) {
             throw new AccessDeniedException("해당 기능을 사용할 수 없습니다.");
         }
     }
@@ -106,7 +155,7 @@ public class StudyService {
     }
 
     public Study getStudyToUpdateStatus(Account account, String path) {
-        Study study = repository.findStudyWithManagersByPath(path);
+        Study study = repository.findByPath(path);
         checkIfExistingStudy(path, study);
         checkIfManager(account, study);
         return study;
@@ -114,17 +163,25 @@ public class StudyService {
 
     public void publish(Study study) {
         study.publish();
+        eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
+        eventPublisher.publishEvent(new StudyCreatedEvent(study.getId()));
     }
 
     public void close(Study study) {
         study.close();
+        eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
+        eventPublisher.publishEvent(new StudyUpdateEvent(study.getId(), "동아리를 종료했습니다."));
     }
 
     public void startRecruit(Study study) {
         study.startRecruit();
+        eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
+        eventPublisher.publishEvent(new StudyUpdateEvent(study.getId(), "팀원 모집을 시작합니다."));
     }
 
     public void stopRecruit(Study study) {
         study.stopRecruit();
+        eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
+        eventPublisher.publishEvent(new StudyUpdateEvent(study.getId(), "팀원 모집을 종료했습니다."));
     }
 }
@@ -1,31 +1,33 @@
 package com.skykimpro.chingu.study;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skykimpro.chingu.account.CurrentUser;
 import com.skykimpro.chingu.domain.Account;
 import com.skykimpro.chingu.domain.Study;
 import com.skykimpro.chingu.domain.Tag;
 import com.skykimpro.chingu.domain.Zone;
+import com.skykimpro.chingu.image.ImageService;
 import com.skykimpro.chingu.settings.form.TagForm;
 import com.skykimpro.chingu.settings.form.ZoneForm;
 import com.skykimpro.chingu.study.form.StudyDescriptionForm;
 import com.skykimpro.chingu.tag.TagRepository;
 import com.skykimpro.chingu.tag.TagService;
-import com.skykimpro.chingu.zone.ZoneRepository;
+import com.skykimpro.chingu.zone.ZoneService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.support.RequestContextUtils;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Controller
@@ -34,11 +36,11 @@ import java.util.stream.Collectors;
 public class StudySettingController {
 
     private final StudyService studyService;
-    private final ModelMapper modelMapper;
+    private final StudyMapper studyMapper;
     private final TagService tagService;
     private final TagRepository tagRepository;
-    private final ZoneRepository zoneRepository;
-    private final ObjectMapper objectMapper;
+    private final ZoneService zoneService;
+    private final ImageService imageService;
 
     @GetMapping("/study")
     public String studySettingForm(@CurrentUser Account account, @PathVariable String path, Model model){
@@ -95,17 +97,13 @@ public class StudySettingController {
     }
 
     @GetMapping("/tags")
-    public String studyTagsForm(@CurrentUser Account account, @PathVariable String path, Model model)
-            throws JsonProcessingException {
+    public String studyTagsForm(@CurrentUser Account account, @PathVariable String path, Model model) {
         Study study = studyService.getStudyToUpdate(account, path);
         model.addAttribute(account);
         model.addAttribute(study);
 
         model.addAttribute("tags", study.getTags().stream()
                 .map(Tag::getTitle).collect(Collectors.toList()));
-        List<String> allTagTitles = tagRepository.findAll().stream()
-                .map(Tag::getTitle).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allTagTitles));
         return "study/settings/tags";
     }
 
@@ -134,15 +132,12 @@ public class StudySettingController {
     }
 
     @GetMapping("/zones")
-    public String studyZonesForm(@CurrentUser Account account, @PathVariable String path, Model model)
-            throws JsonProcessingException {
+    public String studyZonesForm(@CurrentUser Account account, @PathVariable String path, Model model) {
         Study study = studyService.getStudyToUpdate(account, path);
         model.addAttribute(account);
         model.addAttribute(study);
         model.addAttribute("zones", study.getZones().stream()
                 .map(Zone::toString).collect(Collectors.toList()));
-        List<String> allZones = zoneRepository.findAll().stream().map(Zone::toString).collect(Collectors.toList());
-        model.addAttribute("whitelist", objectMapper.writeValueAsString(allZones));
         return "study/settings/zones";
     }
 
@@ -151,7 +146,7 @@ public class StudySettingController {
     public ResponseEntity addZone(@CurrentUser Account account, @PathVariable String path,
                                   @RequestBody ZoneForm zoneForm) {
         Study study = studyService.getStudyToUpdateZone(account, path);
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneService.getZone(zoneForm.getCityName(), zoneForm.getProvinceName());
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -165,7 +160,7 @@ public class StudySettingController {
     public ResponseEntity removeZone(@CurrentUser Account account, @PathVariable String path,
                                      @RequestBody ZoneForm zoneForm) {
         Study study = studyService.getStudyToUpdateZone(account, path);
-        Zone zone = zoneRepository.findByCityAndProvince(zoneForm.getCityName(), zoneForm.getProvinceName());
+        Zone zone = zoneService.getZone(zoneForm.getCityName(), zoneForm.getProvinceName());
         if (zone == null) {
             return ResponseEntity.badRequest().build();
         }
@@ -186,6 +181,11 @@ public class StudySettingController {
     public String studyImageSubmit(@CurrentUser Account account, @PathVariable String path,
                                    String image, RedirectAttributes attributes) {
         Study study = studyService.getStudyToUpdate(account, path);
+        if (!imageService.isValid(image)) {
+            attributes.addFlashAttribute("message", "이미지 형식이 올바르지 않습니다.");
+            return "redirect:/study/" + study.getEncodedPath() + "/settings/banner";
+        }
+
         studyService.updateStudyImage(study, image);
         attributes.addFlashAttribute("message", "동아리 이미지를 수정했습니다.");
         return "redirect:/study/" + study.getEncodedPath() + "/settings/banner";
@@ -210,7 +210,7 @@ public class StudySettingController {
         Study study = studyService.getStudyToUpdate(account, path);
         model.addAttribute(account);
         model.addAttribute(study);
-        model.addAttribute(modelMapper.map(study, StudyDescriptionForm.class));
+        model.addAttribute(studyMapper.toDescriptionForm(study));
         return "study/settings/description";
     }
 
@@ -234,4 +234,16 @@ public class StudySettingController {
     private String getPath(String path) {
         return URLEncoder.encode(path, StandardCharsets.UTF_8);
     }
+
+    /**
+     * 다른 관리자가 같은 동아리를 먼저 바꿔서 버전이 맞지 않으면 덮어쓰지 않고 설정 화면으로 돌려보낸다.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public String handleConcurrentUpdate(HttpServletRequest request) {
+        RequestContextUtils.getOutputFlashMap(request)
+                .put("message", "다른 관리자가 먼저 동아리를 수정했습니다. 확인한 뒤 다시 시도하세요.");
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return "redirect:/study/" + URLEncoder.encode(pathVariables.get("path"), StandardCharsets.UTF_8) + "/settings/study";
+    }
 }
@@ -0,0 +1,16 @@
+package com.skykimpro.chingu.study;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공개된 동아리의 소개, 모집, 종료 상태가 바뀌었을 때 발행한다. 동아리 관리자와 구성원에게 알린다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudyUpdateEvent {
+
+    private final Long studyId;
+
+    private final String message;
+}
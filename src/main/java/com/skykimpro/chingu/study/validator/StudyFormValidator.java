@@ -1,7 +1,6 @@
 package com.skykimpro.chingu.study.validator;
 
-import com.skykimpro.chingu.domain.Study;
-import com.skykimpro.chingu.study.StudyRepository;
+import com.skykimpro.chingu.availability.AvailabilityIndex;
 import com.skykimpro.chingu.study.form.StudyForm;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -12,7 +11,7 @@ import org.springframework.validation.Validator;
 @RequiredArgsConstructor
 public class StudyFormValidator implements Validator {
 
-    private final StudyRepository studyRepository;
+    private final AvailabilityIndex availabilityIndex;
 
     @Override
     public boolean supports(Class<?> clazz){
@@ -22,7 +21,7 @@ public class StudyFormValidator implements Validator {
     @Override
     public void validate(Object target, Errors errors){
         StudyForm studyForm = (StudyForm)target;
-        if(studyRepository.existsByPath(studyForm.getPath())){
+        if(availabilityIndex.isStudyPathTaken(studyForm.getPath())){
             errors.rejectValue("path", "wrong.path", "해당 동아리 경로값을 사용할 수 없습니다.");
         }
     }
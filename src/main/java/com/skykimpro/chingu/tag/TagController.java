@@ -0,0 +1,28 @@
+package com.skykimpro.chingu.tag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+
+@Controller
+@RequiredArgsConstructor
+public class TagController {
+
+    static final int MAX_SEARCH_SIZE = 20;
+
+    private final TagIndex tagIndex;
+
+    @GetMapping("/tags/search")
+    @ResponseBody
+    public List<String> searchTags(@RequestParam(defaultValue = "") String prefix,
+                                   @RequestParam(defaultValue = "10") int size) {
+        if (prefix.isBlank()) {
+            return List.of();
+        }
+        return tagIndex.search(prefix.strip(), Math.max(1, Math.min(size, MAX_SEARCH_SIZE)));
+    }
+}
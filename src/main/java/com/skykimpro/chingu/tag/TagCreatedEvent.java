@@ -0,0 +1,13 @@
+package com.skykimpro.chingu.tag;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TagCreatedEvent {
+
+    private final Long id;
+
+    private final String title;
+}
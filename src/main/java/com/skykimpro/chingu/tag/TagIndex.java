@@ -0,0 +1,80 @@
+package com.skykimpro.chingu.tag;
+
+import com.skykimpro.chingu.domain.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 태그 제목과 id를 정렬해서 메모리에 들고 있는 색인. 자동완성 검색과 제목으로 id를 찾는 캐시로 쓴다.
+ * 시작할 때 한 번 채우고 이후에는 새 태그가 커밋될 때마다 추가한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TagIndex {
+
+    private static final Comparator<String> ORDER = String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+
+    private final TagRepository tagRepository;
+
+    private final ConcurrentNavigableMap<String, Long> tags = new ConcurrentSkipListMap<>(ORDER);
+
+    @PostConstruct
+    public void load() {
+        tagRepository.findAll().forEach(this::put);
+    }
+
+    @TransactionalEventListener
+    public void handleTagCreatedEvent(TagCreatedEvent event) {
+        tags.put(event.getTitle(), event.getId());
+    }
+
+    /**
+     * 이미 커밋된 태그만 넣어야 한다.
+     */
+    public void put(Tag tag) {
+        tags.put(tag.getTitle(), tag.getId());
+    }
+
+    public Long getId(String title) {
+        return tags.get(title);
+    }
+
+    /**
+     * 대소문자 구분 없이 prefix 로 시작하는 태그를 정렬 순서대로 최대 limit 개 반환한다.
+     * 대소문자만 다른 제목끼리는 대문자가 앞에 오므로 prefix 를 대문자로 바꾼 자리부터 읽는다.
+     * "spring" 으로 찾아도 "Spring" 을 건너뛰지 않는다.
+     */
+    public List<String> search(String prefix, int limit) {
+        List<String> result = new ArrayList<>();
+        for (String title : tags.tailMap(toUpperCase(prefix), true).keySet()) {
+            if (result.size() >= limit || !title.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                break;
+            }
+            result.add(title);
+        }
+        return result;
+    }
+
+    public int size() {
+        return tags.size();
+    }
+
+    /**
+     * String.CASE_INSENSITIVE_ORDER 처럼 글자마다 바꿔서 길이가 달라지지 않게 한다.
+     */
+    private String toUpperCase(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toUpperCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
@@ -4,8 +4,13 @@ import com.skykimpro.chingu.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @Transactional(readOnly = true)
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryExtension {
 
     Tag findByTitle(String title);
+
+    List<Tag> findAllByTitleIn(Collection<String> titles);
 }
@@ -0,0 +1,13 @@
+package com.skykimpro.chingu.tag;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface TagRepositoryExtension {
+
+    /**
+     * 없는 제목만 한 번의 배치로 추가하고, 실제로 추가된 제목을 반환한다.
+     * 이미 있는 제목은 건너뛰므로 동시에 같은 태그를 추가해도 유니크 제약 위반이 나지 않는다.
+     */
+    Set<String> insertMissingTitles(Collection<String> titles);
+}
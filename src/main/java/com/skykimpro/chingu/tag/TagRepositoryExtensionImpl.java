@@ -0,0 +1,86 @@
+package com.skykimpro.chingu.tag;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class TagRepositoryExtensionImpl implements TagRepositoryExtension {
+
+    private static final String POSTGRESQL_UPSERT = "insert into tag (id, title) values (nextval('hibernate_sequence'), ?) " +
+            "on conflict (title) do nothing";
+
+    private static final String H2_UPSERT = "merge into tag t using (select cast(? as varchar(255)) as title) s " +
+            "on t.title = s.title " +
+            "when not matched then insert (id, title) values (next value for hibernate_sequence, s.title)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean h2;
+
+    @Override
+    public Set<String> insertMissingTitles(Collection<String> titles) {
+        List<String> titleList = new ArrayList<>(titles);
+        return isH2() ? mergeEach(titleList) : upsertBatch(titleList);
+    }
+
+    private Set<String> upsertBatch(List<String> titles) {
+        int[] counts = jdbcTemplate.batchUpdate(POSTGRESQL_UPSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, titles.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return titles.size();
+            }
+        });
+
+        Set<String> inserted = new HashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            // 드라이버가 건수를 알려주지 않으면 추가된 것으로 본다.
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                inserted.add(titles.get(i));
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * H2의 MERGE는 동시에 커밋되지 않은 같은 제목을 보지 못해서 유니크 제약 위반이 날 수 있다.
+     * H2는 문장이 실패해도 트랜잭션을 깨뜨리지 않으므로 한 건씩 실행하고 위반은 이미 있는 것으로 본다.
+     */
+    private Set<String> mergeEach(List<String> titles) {
+        Set<String> inserted = new HashSet<>();
+        for (String title : titles) {
+            try {
+                if (jdbcTemplate.update(H2_UPSERT, title) > 0) {
+                    inserted.add(title);
+                }
+            } catch (DuplicateKeyException e) {
+                // 다른 트랜잭션이 먼저 추가했다.
+            }
+        }
+        return inserted;
+    }
+
+    private boolean isH2() {
+        if (h2 == null) {
+            h2 = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "H2".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return h2;
+    }
+}
@@ -2,22 +2,62 @@ package com.skykimpro.chingu.tag;
 
 import com.skykimpro.chingu.domain.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final TagIndex tagIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Tag findOrCreateNew(String tagTitle) {
-        Tag tag = tagRepository.findByTitle(tagTitle);
-        if (tag == null) {
-            tag = tagRepository.save(Tag.builder().title(tagTitle).build());
+        return findOrCreateAll(List.of(tagTitle)).get(0);
+    }
+
+    /**
+     * 주어진 제목의 태그를 입력 순서대로(중복 제거) 반환한다. 색인에 있는 태그는 조회 없이 참조만 만들고,
+     * 나머지는 한 번의 upsert 배치와 한 번의 조회로 처리한다.
+     */
+    public List<Tag> findOrCreateAll(Collection<String> tagTitles) {
+        Set<String> titles = new LinkedHashSet<>(tagTitles);
+        Map<String, Tag> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String title : titles) {
+            Long id = tagIndex.getId(title);
+            if (id != null) {
+                found.put(title, tagRepository.getOne(id));
+            } else {
+                missing.add(title);
+            }
         }
-        return tag;
+
+        if (!missing.isEmpty()) {
+            Set<String> inserted = tagRepository.insertMissingTitles(missing);
+            for (Tag tag : tagRepository.findAllByTitleIn(missing)) {
+                found.put(tag.getTitle(), tag);
+                if (inserted.contains(tag.getTitle())) {
+                    eventPublisher.publishEvent(new TagCreatedEvent(tag.getId(), tag.getTitle()));
+                } else {
+                    tagIndex.put(tag);
+                }
+            }
+        }
+
+        return titles.stream().map(found::get).collect(Collectors.toList());
     }
 
 }
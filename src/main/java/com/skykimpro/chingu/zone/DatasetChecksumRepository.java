@@ -0,0 +1,7 @@
+package com.skykimpro.chingu.zone;
+
+import com.skykimpro.chingu.domain.DatasetChecksum;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DatasetChecksumRepository extends JpaRepository<DatasetChecksum, String> {
+}
@@ -0,0 +1,27 @@
+package com.skykimpro.chingu.zone;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@Controller
+@RequiredArgsConstructor
+public class ZoneController {
+
+    private final ZoneService zoneService;
+
+    @GetMapping("/zones/whitelist")
+    public ResponseEntity<byte[]> whitelist() {
+        return ResponseEntity.ok()
+                .eTag(zoneService.getWhitelistETag())
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
+                .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .body(zoneService.getWhitelist());
+    }
+}
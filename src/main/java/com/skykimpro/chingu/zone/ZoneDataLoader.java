@@ -0,0 +1,161 @@
+package com.skykimpro.chingu.zone;
+
+import com.skykimpro.chingu.domain.DatasetChecksum;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * zones_kr.csv 를 zone 테이블에 넣는다. 시작 스레드를 막지 않도록 별도 스레드에서 실행하고,
+ * 파일의 체크섬이 지난번에 넣은 것과 같으면 아무것도 하지 않는다.
+ * 지연 초기화(fast-start 프로필)를 켜도 시작할 때 바로 불러오기 시작하도록 즉시 생성한다.
+ * 파일이 바뀌었으면 아직 없는 (도시, 주)만 추가한다. 기존 지역은 계정과 동아리가 참조하고 있으므로 지우지 않는다.
+ * 다른 노드가 동시에 넣고 있었거나 DB가 잠시 응답하지 않으면 몇 번 다시 시도하고, 그래도 안 되면 이미 들어 있는 지역 정보로 시작한다.
+ */
+@Slf4j
+@Lazy(false)
+@Component
+public class ZoneDataLoader {
+
+    static final String DATASET = "zones_kr.csv";
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
+
+    private static final String INSERT_SQL = "insert into zone (id, city, local_name_of_city, province) " +
+            "values (nextval('hibernate_sequence'), ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatasetChecksumRepository checksumRepository;
+    private final TaskExecutor taskExecutor;
+
+    private CompletableFuture<Void> loaded;
+
+    public ZoneDataLoader(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                          DatasetChecksumRepository checksumRepository,
+                          @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.checksumRepository = checksumRepository;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @PostConstruct
+    public void start() {
+        loaded = CompletableFuture.runAsync(this::loadWithRetry, taskExecutor);
+        loaded.exceptionally(e -> {
+            log.error("지역 정보를 불러오지 못했습니다. 이미 들어 있는 지역 정보로 시작합니다.", e);
+            return null;
+        });
+    }
+
+    /**
+     * 지역 정보를 모두 넣은 뒤에 완료된다. 다시 시도해도 넣지 못하면 예외로 완료된다.
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return loaded;
+    }
+
+    private void loadWithRetry() {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> load());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("지역 정보를 불러오지 못해서 다시 시도합니다. ({}/{})", attempt, MAX_ATTEMPTS, e);
+            }
+            try {
+                Thread.sleep(RETRY_DELAY.toMillis() * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    void load() {
+        Resource resource = new ClassPathResource(DATASET);
+        String checksum = checksum(resource);
+        DatasetChecksum stored = checksumRepository.findById(DATASET).orElse(null);
+        if (stored != null && stored.getChecksum().equals(checksum)) {
+            log.debug("{} 가 바뀌지 않아서 지역 정보를 다시 넣지 않습니다.", DATASET);
+            return;
+        }
+
+        Set<String> existing = new HashSet<>(jdbcTemplate.query("select city, province from zone",
+                (rs, rowNum) -> key(rs.getString(1), rs.getString(2))));
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        int inserted = 0;
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
+             CSVParser parser = CSVFormat.DEFAULT.parse(reader)) {
+            for (CSVRecord record : parser) {
+                if (!existing.add(key(record.get(0), record.get(2)))) {
+                    continue;
+                }
+                batch.add(new Object[]{record.get(0), record.get(1), record.get(2)});
+                if (batch.size() == BATCH_SIZE) {
+                    inserted += insert(batch);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        inserted += insert(batch);
+
+        checksumRepository.save(new DatasetChecksum(DATASET, checksum, LocalDateTime.now()));
+        log.info("지역 정보 {}개를 추가했습니다.", inserted);
+    }
+
+    private int insert(List<Object[]> batch) {
+        int size = batch.size();
+        if (size > 0) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            batch.clear();
+        }
+        return size;
+    }
+
+    private String checksum(Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return DigestUtils.md5DigestAsHex(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String key(String city, String province) {
+        return city + "/" + province;
+    }
+}
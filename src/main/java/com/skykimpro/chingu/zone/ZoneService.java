@@ -1,37 +1,96 @@
 package com.skykimpro.chingu.zone;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skykimpro.chingu.domain.Zone;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
 import javax.annotation.PostConstruct;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class ZoneService {
 
     private final ZoneRepository zoneRepository;
+    private final ObjectMapper objectMapper;
+    private final ZoneDataLoader zoneDataLoader;
 
+    private volatile CompletableFuture<Void> ready;
+    private Map<String, Zone> zones = Map.of();
+    private byte[] whitelist;
+    private String whitelistETag;
+
+    /**
+     * 지역 정보를 다 넣은 뒤에 메모리에 올린다. 그 전에 조회하면 올라올 때까지 기다린다.
+     * 넣지 못했어도 테이블에 이미 있는 지역 정보를 올린다.
+     */
     @PostConstruct
-    public void initZoneData() throws IOException {
-        if(zoneRepository.count() == 0){
-            Resource resource = new ClassPathResource("zones_kr.csv");
-            List<Zone> zoneList = Files.readAllLines(resource.getFile().toPath(), StandardCharsets.UTF_8).stream()
-                    .map(line -> {
-                        String[] split = line.split(",");
-                        return Zone.builder().city(split[0]).localNameOfCity(split[1]).province(split[2]).build();
-                    }).collect(Collectors.toList());
-            zoneRepository.saveAll(zoneList);
+    public void initZoneData() {
+        ready = zoneDataLoader.whenLoaded()
+                .exceptionally(e -> null)
+                .thenRun(this::loadZones);
+    }
+
+    /**
+     * 지역 정보는 고정된 데이터이므로 시작할 때 한 번 읽어서 (도시, 주) 로 찾을 수 있는 사전과
+     * 태그 입력기에서 사용할 whitelist JSON을 만들어 둔다.
+     */
+    private void loadZones() {
+        List<Zone> allZones = zoneRepository.findAll();
+        this.zones = allZones.stream()
+                .collect(Collectors.toUnmodifiableMap(zone -> key(zone.getCity(), zone.getProvince()), Function.identity()));
+        try {
+            this.whitelist = objectMapper.writeValueAsBytes(allZones.stream()
+                    .map(Zone::toString).sorted().collect(Collectors.toList()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
         }
+        this.whitelistETag = DigestUtils.md5DigestAsHex(whitelist);
+    }
+
+    public Zone getZone(String cityName, String provinceName) {
+        awaitZones();
+        return zones.get(key(cityName, provinceName));
+    }
+
+    public byte[] getWhitelist() {
+        awaitZones();
+        return whitelist;
+    }
+
+    public String getWhitelistETag() {
+        awaitZones();
+        return whitelistETag;
+    }
+
+    private void awaitZones() {
+        try {
+            ready.join();
+        } catch (CompletionException e) {
+            reloadZones();
+        }
+    }
+
+    /**
+     * 메모리에 올리지 못했으면 조회하는 스레드에서 다시 읽는다. 또 실패하면 이번 조회만 실패하고 다음 조회에서 다시 시도한다.
+     */
+    private synchronized void reloadZones() {
+        if (ready.isCompletedExceptionally()) {
+            loadZones();
+            ready = CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private String key(String cityName, String provinceName) {
+        return cityName + "/" + provinceName;
     }
 }
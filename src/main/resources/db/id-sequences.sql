@@ -0,0 +1,4 @@
+-- 알림과 메일 outbox 는 hibernate_sequence 대신 100개씩 할당하는 전용 시퀀스를 쓴다.
+-- 새로 만든 시퀀스가 기존 행의 id 와 겹치지 않도록 그 뒤로 옮긴다. 여러 번 실행해도 시퀀스가 뒤로 가지 않는다.
+select setval('notification_seq', greatest((select coalesce(max(id), 0) from notification) + 100, (select last_value from notification_seq)));
+select setval('outbox_email_seq', greatest((select coalesce(max(id), 0) from outbox_email) + 100, (select last_value from outbox_email_seq)));
@@ -0,0 +1,3 @@
+-- ddl-auto=update 로 version, member_count 컬럼이 추가된 기존 동아리를 맞춘다. 여러 번 실행해도 결과가 같다.
+update study set version = 0 where version is null;
+update study s set member_count = (select count(*) from study_members sm where sm.study_id = s.id) where s.member_count <> (select count(*) from study_members sm where sm.study_id = s.id);
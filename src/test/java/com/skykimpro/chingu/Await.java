@@ -0,0 +1,30 @@
+package com.skykimpro.chingu;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 다른 스레드에서 끝나는 작업의 결과를 기다리는 테스트 도우미.
+ * whenNotified(), whenIndexed() 처럼 끝났음을 알려주는 future 가 없는 메일 발송, SSE 응답에만 쓴다.
+ */
+public final class Await {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private Await() {
+    }
+
+    public static void until(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline > 0) {
+                fail(TIMEOUT.toSeconds() + "초 안에 조건을 만족하지 않았습니다.");
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.skykimpro.chingu;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate가 실행하는 SQL을 모아두는 테스트용 StatementInspector.
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} 로 등록해서 사용한다.
+ */
+public class SqlStatementCollector implements StatementInspector {
+
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.skykimpro.chingu.SqlStatementCollector";
+
+    private static final List<String> statements = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (statements) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static void clear() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    public static boolean anyContains(String fragment) {
+        synchronized (statements) {
+            return statements.stream().anyMatch(sql -> sql.contains(fragment));
+        }
+    }
+
+    public static long countContains(String fragment) {
+        synchronized (statements) {
+            return statements.stream().filter(sql -> sql.contains(fragment)).count();
+        }
+    }
+}
@@ -102,6 +102,33 @@ class AccountControllerTest {
                 .andExpect(unauthenticated());
     }
 
+    @DisplayName("회원 가입 처리 - 다른 서버에서 먼저 가입한 닉네임은 폼 오류로 알려준다")
+    @Test
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    void signUpSubmit_taken_on_other_node() throws Exception {
+        // 서비스를 거치지 않고 저장해서 이 서버의 블룸 필터에는 없는 닉네임을 만든다.
+        accountRepository.save(Account.builder()
+                .nickname("other-node")
+                .email("other-node@cmd.ccc")
+                .password("12345678")
+                .build());
+        try {
+            mockMvc.perform(post("/sign-up")
+                    .param("nickname", "other-node")
+                    .param("email", "new-node@cmd.ccc")
+                    .param("password", "12345678")
+                    .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(view().name("account/sign-up"))
+                    .andExpect(model().attributeHasFieldErrors("signUpForm", "nickname"))
+                    .andExpect(unauthenticated());
+
+            assertNull(accountRepository.findByEmail("new-node@cmd.ccc"));
+        } finally {
+            accountRepository.deleteAll();
+        }
+    }
+
     @DisplayName("회원 가입 처리 - 입력값 정상")
     @Test
     void signUpSubmit_with_correct_input() throws Exception {
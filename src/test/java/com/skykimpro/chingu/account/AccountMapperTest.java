@@ -0,0 +1,103 @@
+package com.skykimpro.chingu.account;
+
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.settings.form.NicknameForm;
+import com.skykimpro.chingu.settings.form.Notifications;
+import com.skykimpro.chingu.settings.form.Profile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.NameTokenizers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountMapperTest {
+
+    private final AccountMapper accountMapper = Mappers.getMapper(AccountMapper.class);
+
+    private final ModelMapper modelMapper = legacyModelMapper();
+
+    @DisplayName("회원 가입 폼 매핑 결과가 ModelMapper와 같다")
+    @Test
+    void toAccount() {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname("kja");
+        signUpForm.setEmail("kja@email.com");
+        signUpForm.setPassword("{bcrypt}12345678");
+
+        assertSameAccount(modelMapper.map(signUpForm, Account.class), accountMapper.toAccount(signUpForm));
+        assertTrue(accountMapper.toAccount(signUpForm).isStudyCreatedByWeb());
+        assertNotNull(accountMapper.toAccount(signUpForm).getTags());
+    }
+
+    @DisplayName("계정에서 설정 폼을 만든 결과가 ModelMapper와 같다")
+    @Test
+    void toForms() {
+        Account account = account();
+
+        assertEquals(modelMapper.map(account, Profile.class), accountMapper.toProfile(account));
+        assertEquals(modelMapper.map(account, Notifications.class), accountMapper.toNotifications(account));
+        assertEquals(modelMapper.map(account, NicknameForm.class), accountMapper.toNicknameForm(account));
+    }
+
+    @DisplayName("프로필과 알림 설정을 계정에 덮어쓴 결과가 ModelMapper와 같다 - null 값도 덮어쓴다")
+    @Test
+    void updateAccount() {
+        Profile profile = new Profile();
+        profile.setBio("새 소개");
+        profile.setUrl(null);
+        profile.setOccupation("개발자");
+        Notifications notifications = modelMapper.map(account(), Notifications.class);
+        notifications.setStudyCreatedByWeb(false);
+        notifications.setStudyUpdatedByEmail(true);
+
+        Account expected = account();
+        modelMapper.map(profile, expected);
+        modelMapper.map(notifications, expected);
+        Account actual = account();
+        accountMapper.updateProfile(profile, actual);
+        accountMapper.updateNotifications(notifications, actual);
+
+        assertSameAccount(expected, actual);
+        assertNull(actual.getUrl());
+    }
+
+    private Account account() {
+        Account account = new Account();
+        account.setId(1L);
+        account.setNickname("kja");
+        account.setEmail("kja@email.com");
+        account.setBio("짧은 소개");
+        account.setUrl("https://chingu.example.com");
+        account.setOccupation("학생");
+        account.setLocation("서울");
+        account.setProfileImage("/images/profile.png");
+        account.setStudyEnrollmentResultByEmail(true);
+        return account;
+    }
+
+    private void assertSameAccount(Account expected, Account actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getNickname(), actual.getNickname());
+        assertEquals(expected.getEmail(), actual.getEmail());
+        assertEquals(expected.getPassword(), actual.getPassword());
+        assertEquals(expected.getBio(), actual.getBio());
+        assertEquals(expected.getUrl(), actual.getUrl());
+        assertEquals(expected.getOccupation(), actual.getOccupation());
+        assertEquals(expected.getLocation(), actual.getLocation());
+        assertEquals(expected.getProfileImage(), actual.getProfileImage());
+        assertEquals(modelMapper.map(expected, Notifications.class), modelMapper.map(actual, Notifications.class));
+        assertEquals(expected.getTags(), actual.getTags());
+        assertEquals(expected.getZones(), actual.getZones());
+    }
+
+    /** 매퍼로 바꾸기 전 AppConfig에 있던 설정 그대로 */
+    private static ModelMapper legacyModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setDestinationNameTokenizer(NameTokenizers.UNDERSCORE)
+                .setSourceNameTokenizer(NameTokenizers.UNDERSCORE);
+        return modelMapper;
+    }
+}
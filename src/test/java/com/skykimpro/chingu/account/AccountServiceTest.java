@@ -0,0 +1,112 @@
+package com.skykimpro.chingu.account;
+
+import com.skykimpro.chingu.SqlStatementCollector;
+import com.skykimpro.chingu.domain.Account;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = SqlStatementCollector.PROPERTY)
+class AccountServiceTest {
+
+    @Autowired AccountService accountService;
+    @Autowired AccountRepository accountRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private UserAccount userAccount;
+
+    @BeforeEach
+    void beforeEach() {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname("KJA");
+        signUpForm.setEmail("kja@email.com");
+        signUpForm.setPassword("12345678");
+        userAccount = (UserAccount) accountService.loadUserByUsername(
+                accountService.processNewAccount(signUpForm).getNickname());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void afterEach() {
+        accountRepository.deleteAll();
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("세션에는 엔티티가 아닌 사용자 정보만 저장한다")
+    @Test
+    void userAccount_snapshot() {
+        assertNotNull(userAccount.getId());
+        assertEquals("KJA", userAccount.getNickname());
+        assertEquals("kja@email.com", userAccount.getEmail());
+        assertFalse(userAccount.isEmailVerified());
+    }
+
+    @DisplayName("현재 사용자는 2차 캐시에서 읽는다")
+    @Test
+    void getCurrentAccount_cached() {
+        accountService.getCurrentAccount(userAccount);
+        assertTrue(entityManagerFactory.getCache().contains(Account.class, userAccount.getId()));
+
+        SqlStatementCollector.clear();
+        Account account = accountService.getCurrentAccount(userAccount);
+
+        assertEquals("KJA", account.getNickname());
+        assertFalse(SqlStatementCollector.anyContains("from account"));
+    }
+
+    @DisplayName("로그인 조회는 이메일이든 닉네임이든 쿼리 한 번으로 필요한 컬럼만 읽는다")
+    @Test
+    void loadUserByUsername_singleQuery() {
+        for (String username : new String[]{"kja@email.com", "KJA"}) {
+            SqlStatementCollector.clear();
+            UserAccount loaded = (UserAccount) accountService.loadUserByUsername(username);
+
+            assertEquals(userAccount.getId(), loaded.getId());
+            assertEquals(1, SqlStatementCollector.countContains("from account"));
+            assertFalse(SqlStatementCollector.anyContains("bio"));
+        }
+    }
+
+    @DisplayName("없는 사용자는 잠깐 기억해서 다시 조회하지 않는다")
+    @Test
+    void loadUserByUsername_negativeCache() {
+        assertThrows(UsernameNotFoundException.class, () -> accountService.loadUserByUsername("nobody"));
+
+        SqlStatementCollector.clear();
+        assertThrows(UsernameNotFoundException.class, () -> accountService.loadUserByUsername("nobody"));
+        assertFalse(SqlStatementCollector.anyContains("from account"));
+    }
+
+    @DisplayName("없던 닉네임으로 가입하면 바로 로그인할 수 있다")
+    @Test
+    void loadUserByUsername_afterSignUp() {
+        assertThrows(UsernameNotFoundException.class, () -> accountService.loadUserByUsername("newbie"));
+
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname("newbie");
+        signUpForm.setEmail("newbie@email.com");
+        signUpForm.setPassword("12345678");
+        accountService.processNewAccount(signUpForm);
+
+        assertEquals("newbie", accountService.loadUserByUsername("newbie").getUsername());
+    }
+
+    @DisplayName("닉네임을 바꾸면 캐시와 세션 정보가 함께 바뀐다")
+    @Test
+    void updateNickname_refreshesCache() {
+        accountService.updateNickname(accountService.getCurrentAccount(userAccount), "KJA2");
+
+        assertEquals("KJA2", accountService.getCurrentAccount(userAccount).getNickname());
+        UserAccount principal = (UserAccount) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertEquals("KJA2", principal.getNickname());
+    }
+}
@@ -0,0 +1,84 @@
+package com.skykimpro.chingu.account;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.web.authentication.rememberme.PersistentRememberMeToken;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.remember-me-purge-interval=3600000")
+class CachingTokenRepositoryTest {
+
+    @Autowired CachingTokenRepository tokenRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void afterEach() {
+        tokenRepository.removeUserTokens("kja");
+        jdbcTemplate.update("delete from persistent_logins");
+    }
+
+    @DisplayName("토큰 조회는 캐시에서 하고 DB를 다시 읽지 않는다")
+    @Test
+    void getTokenForSeries_cached() {
+        tokenRepository.createNewToken(new PersistentRememberMeToken("kja", "series", "token", new Date()));
+        jdbcTemplate.update("update persistent_logins set token = 'changed' where series = 'series'");
+
+        assertEquals("token", tokenRepository.getTokenForSeries("series").getTokenValue());
+    }
+
+    @DisplayName("토큰이 바뀌는 갱신은 바로 DB에 반영한다")
+    @Test
+    void updateToken_rotationWrittenThrough() {
+        tokenRepository.createNewToken(new PersistentRememberMeToken("kja", "series", "token", new Date()));
+
+        tokenRepository.updateToken("series", "token2", new Date());
+        assertEquals("token2", storedToken("series"));
+
+        tokenRepository.updateToken("series", "token3", new Date());
+        assertEquals("token3", tokenRepository.getTokenForSeries("series").getTokenValue());
+        assertEquals("token3", storedToken("series"));
+    }
+
+    @DisplayName("로그아웃하면 캐시와 DB에서 모두 지운다")
+    @Test
+    void removeUserTokens() {
+        tokenRepository.createNewToken(new PersistentRememberMeToken("kja", "series", "token", new Date()));
+        tokenRepository.updateToken("series", "token2", new Date());
+
+        tokenRepository.removeUserTokens("kja");
+
+        assertNull(tokenRepository.getTokenForSeries("series"));
+        assertEquals(0, count());
+    }
+
+    @DisplayName("유효기간이 지난 시리즈는 백그라운드에서 지운다")
+    @Test
+    void purgeExpired() {
+        Date expired = new Date(System.currentTimeMillis() - Duration.ofDays(15).toMillis());
+        tokenRepository.createNewToken(new PersistentRememberMeToken("kja", "old", "token", expired));
+        tokenRepository.createNewToken(new PersistentRememberMeToken("kja", "recent", "token", expired));
+        tokenRepository.updateToken("recent", "token2", new Date());
+
+        tokenRepository.purgeExpired();
+
+        assertEquals(1, count());
+        assertNull(tokenRepository.getTokenForSeries("old"));
+        assertEquals("token2", tokenRepository.getTokenForSeries("recent").getTokenValue());
+    }
+
+    private String storedToken(String series) {
+        return jdbcTemplate.queryForObject("select token from persistent_logins where series = ?", String.class, series);
+    }
+
+    private long count() {
+        return jdbcTemplate.queryForObject("select count(*) from persistent_logins", Long.class);
+    }
+}
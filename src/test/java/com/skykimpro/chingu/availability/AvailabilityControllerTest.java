@@ -0,0 +1,110 @@
+package com.skykimpro.chingu.availability;
+
+import com.skykimpro.chingu.SqlStatementCollector;
+import com.skykimpro.chingu.WithAccount;
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.config.AppProperties;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.study.StudyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = SqlStatementCollector.PROPERTY)
+@AutoConfigureMockMvc
+@Transactional
+class AvailabilityControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired AccountRepository accountRepository;
+    @Autowired StudyService studyService;
+    @Autowired AppProperties appProperties;
+
+    @AfterEach
+    void afterEach() {
+        accountRepository.deleteAll();
+    }
+
+    @DisplayName("한 번도 쓰인 적 없는 닉네임은 DB를 보지 않고 사용 가능으로 답한다")
+    @Test
+    void nickname_available() throws Exception {
+        SqlStatementCollector.clear();
+
+        mockMvc.perform(get("/availability/nickname").param("value", "nobody"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(true));
+
+        assertFalse(SqlStatementCollector.anyContains("from account"));
+    }
+
+    @DisplayName("이메일 가입 여부는 확인해 주지 않는다")
+    @Test
+    void email_notExposed() throws Exception {
+        mockMvc.perform(get("/availability/email").param("value", "nobody@email.com"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @DisplayName("한 IP 에서 너무 자주 물어보면 429로 답한다")
+    @Test
+    void nickname_rateLimited() throws Exception {
+        for (int i = 0; i < appProperties.getAvailabilityRateLimit(); i++) {
+            mockMvc.perform(get("/availability/nickname").param("value", "nobody" + i).with(remoteAddr("10.0.0.15")))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/availability/nickname").param("value", "nobody").with(remoteAddr("10.0.0.15")))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/availability/nickname").param("value", "nobody").with(remoteAddr("10.0.0.16")))
+                .andExpect(status().isOk());
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("가입한 닉네임은 사용할 수 없다")
+    @Test
+    void nickname_taken() throws Exception {
+        mockMvc.perform(get("/availability/nickname").param("value", "KJA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(false));
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("개설된 동아리 경로는 사용할 수 없다")
+    @Test
+    void studyPath_taken() throws Exception {
+        Account kja = accountRepository.findByNickname("KJA");
+        Study study = new Study();
+        study.setPath("taken-path");
+        study.setTitle("테스트 동아리");
+        studyService.createNewStudy(study, kja);
+
+        mockMvc.perform(get("/availability/study-path").param("value", "taken-path"))
+                .andExpect(jsonPath("$.available").value(false));
+        mockMvc.perform(get("/availability/study-path").param("value", "free-path"))
+                .andExpect(jsonPath("$.available").value(true));
+    }
+
+    @DisplayName("동아리 경로 확인은 로그인해야 사용할 수 있다")
+    @Test
+    void studyPath_anonymous() throws Exception {
+        mockMvc.perform(get("/availability/study-path").param("value", "free-path"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    private RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
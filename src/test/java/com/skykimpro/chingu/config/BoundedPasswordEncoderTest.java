@@ -0,0 +1,72 @@
+package com.skykimpro.chingu.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @AfterEach
+    void afterEach() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @DisplayName("해시 풀과 대기열이 가득 차면 기다리지 않고 거절한다")
+    @Test
+    void encode_busy() throws Exception {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        PasswordEncoder passwordEncoder = new BoundedPasswordEncoder(new SlowPasswordEncoder(), executor);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("12345678"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(PasswordEncoderBusyException.class, () -> passwordEncoder.encode("12345678"));
+
+        release.countDown();
+        assertEquals("encoded", first.get(5, TimeUnit.SECONDS));
+    }
+
+    @DisplayName("목표 시간이 짧으면 bcrypt 기본 강도보다 낮추지 않는다")
+    @Test
+    void calibrateBcryptStrength() {
+        assertEquals(AppConfig.MIN_BCRYPT_STRENGTH, AppConfig.calibrateBcryptStrength(Duration.ZERO));
+    }
+
+    private class SlowPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+}
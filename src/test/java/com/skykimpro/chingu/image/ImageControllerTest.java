@@ -0,0 +1,103 @@
+package com.skykimpro.chingu.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ImageControllerTest {
+
+    @TempDir
+    static Path imageDir;
+
+    @DynamicPropertySource
+    static void imageDir(DynamicPropertyRegistry registry) {
+        registry.add("app.image-dir", imageDir::toString);
+    }
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ImageService imageService;
+
+    private final byte[] content = "chingu-test-image".getBytes(StandardCharsets.UTF_8);
+
+    @DisplayName("이미지 조회 - ETag와 캐시 헤더")
+    @Test
+    void image() throws Exception {
+        String key = imageService.store(dataUrl());
+
+        mockMvc.perform(get("/image/" + key))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(content().bytes(content))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + key + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public"));
+    }
+
+    @DisplayName("이미지 조회 - 변경되지 않은 이미지")
+    @Test
+    void image_not_modified() throws Exception {
+        String key = imageService.store(dataUrl());
+
+        mockMvc.perform(get("/image/" + key)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + key + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @DisplayName("이미지 조회 - 범위 요청")
+    @Test
+    void image_range() throws Exception {
+        String key = imageService.store(dataUrl());
+
+        mockMvc.perform(get("/image/" + key)
+                .header(HttpHeaders.RANGE, "bytes=0-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("chingu"));
+    }
+
+    @DisplayName("같은 이미지는 한 번만 저장")
+    @Test
+    void store_deduplicated() {
+        assertEquals(imageService.store(dataUrl()), imageService.store(dataUrl()));
+    }
+
+    @DisplayName("형식이 올바르지 않은 이미지")
+    @Test
+    void isValid() {
+        assertTrue(imageService.isValid(dataUrl()));
+        assertTrue(imageService.isValid(null));
+        assertFalse(imageService.isValid("data:text/html;base64," + Base64.getEncoder().encodeToString(content)));
+        assertFalse(imageService.isValid("data:image/png;base64,%%%"));
+        assertFalse(imageService.isValid("data:not a media type;base64,AAAA"));
+        assertFalse(imageService.isValid("https://example.com/image.png"));
+    }
+
+    @DisplayName("없는 이미지 조회")
+    @Test
+    void image_not_found() throws Exception {
+        mockMvc.perform(get("/image/" + "0".repeat(64) + ".png"))
+                .andExpect(status().isNotFound());
+    }
+
+    private String dataUrl() {
+        return "data:image/png;base64," + Base64.getEncoder().encodeToString(content);
+    }
+}
@@ -0,0 +1,81 @@
+package com.skykimpro.chingu.image;
+
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.study.StudyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class LegacyImageMigrationTest {
+
+    @TempDir
+    static Path imageDir;
+
+    @DynamicPropertySource
+    static void imageDir(DynamicPropertyRegistry registry) {
+        registry.add("app.image-dir", imageDir::toString);
+    }
+
+    @Autowired LegacyImageMigration legacyImageMigration;
+    @Autowired ImageService imageService;
+    @Autowired AccountRepository accountRepository;
+    @Autowired StudyRepository studyRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private final String dataUrl = "data:image/png;base64," +
+            Base64.getEncoder().encodeToString("chingu-legacy-image".getBytes(StandardCharsets.UTF_8));
+
+    @AfterEach
+    void afterEach() {
+        studyRepository.deleteAll();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("예전 data URL 이미지를 이미지 저장소로 옮기고 키로 바꾼다")
+    @Test
+    void migrate() throws Exception {
+        legacyImageMigration.whenMigrated().get();
+        Account account = accountRepository.save(Account.builder()
+                .nickname("legacy").email("legacy@email.com").password("12345678").build());
+        Account broken = accountRepository.save(Account.builder()
+                .nickname("broken").email("broken@email.com").password("12345678").build());
+        Study study = new Study();
+        study.setPath("legacy-study");
+        study.setTitle("예전 동아리");
+        study = studyRepository.save(study);
+        jdbcTemplate.update("update account set profile_image = ? where id = ?", dataUrl, account.getId());
+        jdbcTemplate.update("update account set profile_image = ? where id = ?", "data:image/png;base64,%%%", broken.getId());
+        jdbcTemplate.update("update study set image = ? where id = ?", dataUrl, study.getId());
+        accountRepository.findById(account.getId()).orElseThrow();
+
+        legacyImageMigration.migrate();
+        legacyImageMigration.migrate();
+
+        String key = imageService.store(dataUrl);
+        assertEquals(key, jdbcTemplate.queryForObject("select profile_image from account where id = ?", String.class, account.getId()));
+        assertEquals(ImageService.URL_PREFIX + key, accountRepository.findById(account.getId()).orElseThrow().getProfileImageUrl());
+        assertNull(jdbcTemplate.queryForObject("select profile_image from account where id = ?", String.class, broken.getId()));
+        assertEquals(key, jdbcTemplate.queryForObject("select image from study where id = ?", String.class, study.getId()));
+    }
+
+    @DisplayName("옮기기 전의 data URL 은 그대로 보여 준다")
+    @Test
+    void urlOf_legacyDataUrl() {
+        assertEquals(dataUrl, ImageService.urlOf(dataUrl));
+    }
+}
@@ -0,0 +1,94 @@
+package com.skykimpro.chingu.interest;
+
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.account.AccountService;
+import com.skykimpro.chingu.account.SignUpForm;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Tag;
+import com.skykimpro.chingu.domain.Zone;
+import com.skykimpro.chingu.tag.TagRepository;
+import com.skykimpro.chingu.zone.ZoneService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 색인은 커밋된 뒤에 바뀌므로 테스트 트랜잭션 없이 실제로 커밋하고 정리한다.
+ */
+@SpringBootTest
+class InterestIndexTest {
+
+    @Autowired InterestIndex interestIndex;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired AccountService accountService;
+    @Autowired AccountRepository accountRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TagRepository tagRepository;
+    @Autowired ZoneService zoneService;
+
+    @AfterEach
+    void afterEach() {
+        accountRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @DisplayName("서비스에서 바꾼 태그와 지역은 커밋된 뒤에 색인에 반영되고, 롤백되면 반영되지 않는다")
+    @Test
+    void maintainedByServices() {
+        Zone andong = zoneService.getZone("Andong", "North Gyeongsang");
+        Long[] ids = transactionTemplate.execute(status -> {
+            Account account = accountService.processNewAccount(signUpForm("indexer"));
+            Tag tag = tagRepository.save(Tag.builder().title("index-tag").build());
+            accountService.addTag(account, tag);
+            accountService.addZone(account, andong);
+
+            assertTrue(interestIndex.findAccounts(List.of(tag.getId()), List.of(andong.getId())).isEmpty());
+            return new Long[]{account.getId(), tag.getId()};
+        });
+        Long accountId = ids[0], tagId = ids[1];
+
+        assertArrayEquals(new long[]{accountId}, interestIndex.findAccounts(List.of(tagId), List.of(andong.getId())).toArray());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            accountService.removeZone(accountRepository.findById(accountId).orElseThrow(), andong);
+            status.setRollbackOnly();
+        });
+        assertTrue(interestIndex.findAccounts(List.of(tagId), List.of(andong.getId())).contains(accountId));
+
+        transactionTemplate.executeWithoutResult(status ->
+                accountService.removeZone(accountRepository.findById(accountId).orElseThrow(), andong));
+        assertFalse(interestIndex.findAccounts(List.of(tagId), List.of(andong.getId())).contains(accountId));
+    }
+
+    @DisplayName("다른 서버에서 바꾼 관심사는 색인을 다시 만들 때 반영된다")
+    @Test
+    void refresh() {
+        Zone andong = zoneService.getZone("Andong", "North Gyeongsang");
+        Account account = accountService.processNewAccount(signUpForm("elsewhere"));
+        Tag tag = tagRepository.save(Tag.builder().title("elsewhere-tag").build());
+        jdbcTemplate.update("insert into account_tags (account_id, tags_id) values (?, ?)", account.getId(), tag.getId());
+        jdbcTemplate.update("insert into account_zones (account_id, zones_id) values (?, ?)", account.getId(), andong.getId());
+        assertTrue(interestIndex.findAccounts(List.of(tag.getId()), List.of(andong.getId())).isEmpty());
+
+        interestIndex.refresh();
+
+        assertArrayEquals(new long[]{account.getId()},
+                interestIndex.findAccounts(List.of(tag.getId()), List.of(andong.getId())).toArray());
+    }
+
+    private SignUpForm signUpForm(String nickname) {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname(nickname);
+        signUpForm.setEmail(nickname + "@email.com");
+        signUpForm.setPassword("12345678");
+        return signUpForm;
+    }
+}
@@ -0,0 +1,40 @@
+package com.skykimpro.chingu.interest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostingListsTest {
+
+    @DisplayName("키 중 하나라도 가진 id를 찾는다")
+    @Test
+    void any() {
+        PostingLists postingLists = new PostingLists();
+        postingLists.add(1L, 10);
+        postingLists.add(1L, 20);
+        postingLists.add(2L, 20);
+        postingLists.add(2L, 30);
+
+        assertArrayEquals(new long[]{10, 20, 30}, postingLists.any(List.of(1L, 2L)).toArray());
+        assertTrue(postingLists.any(List.of()).isEmpty());
+    }
+
+    @DisplayName("조회 결과를 바꿔도 색인은 바뀌지 않고, 지운 id는 더 이상 찾지 않는다")
+    @Test
+    void remove() {
+        PostingLists postingLists = new PostingLists();
+        postingLists.add(1L, 10);
+        postingLists.add(1L, 20);
+
+        postingLists.any(List.of(1L)).removeLong(10);
+        assertEquals(2, postingLists.any(List.of(1L)).getLongCardinality());
+
+        postingLists.remove(1L, 10);
+        assertArrayEquals(new long[]{20}, postingLists.any(List.of(1L)).toArray());
+        postingLists.remove(1L, 20);
+        assertTrue(postingLists.any(List.of(1L)).isEmpty());
+    }
+}
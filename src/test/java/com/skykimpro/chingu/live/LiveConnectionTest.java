@@ -0,0 +1,59 @@
+package com.skykimpro.chingu.live;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveConnectionTest {
+
+    @DisplayName("쓰기가 멈춘 연결이 있어도 다른 연결에는 계속 보낸다")
+    @Test
+    void stalledConnection_doesNotBlockOthers() throws Exception {
+        ExecutorService writer = Executors.newFixedThreadPool(2);
+        CountDownLatch stalledWriting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        SseEmitter stalled = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                stalledWriting.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        SseEmitter healthy = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                delivered.countDown();
+            }
+        };
+        LiveConnection slow = new LiveConnection(stalled, 1L, null, null, 4, writer, connection -> { });
+        LiveConnection fast = new LiveConnection(healthy, 2L, null, null, 4, writer, connection -> { });
+
+        try {
+            slow.offer(SseEmitter.event().comment("first"));
+            slow.flushLater();
+            assertTrue(stalledWriting.await(5, TimeUnit.SECONDS));
+
+            slow.offer(SseEmitter.event().comment("second"));
+            slow.flushLater();
+            fast.offer(SseEmitter.event().comment("first"));
+            fast.flushLater();
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            writer.shutdown();
+        }
+    }
+}
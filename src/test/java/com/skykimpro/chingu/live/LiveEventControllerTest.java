@@ -0,0 +1,123 @@
+package com.skykimpro.chingu.live;
+
+import com.skykimpro.chingu.Await;
+import com.skykimpro.chingu.WithAccount;
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.config.AppProperties;
+import com.skykimpro.chingu.study.StudyUpdateEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UnsupportedEncodingException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 이벤트는 커밋된 뒤에 보내므로 테스트 트랜잭션 없이 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class LiveEventControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired AccountRepository accountRepository;
+    @Autowired LiveEventBroadcaster liveEventBroadcaster;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired ApplicationEventPublisher eventPublisher;
+    @Autowired AppProperties appProperties;
+
+    @AfterEach
+    void afterEach() {
+        accountRepository.deleteAll();
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("로그인한 사용자의 연결로 알림을 보낸다")
+    @Test
+    void notification() throws Exception {
+        MockHttpServletResponse response = connect("/live");
+        Long kjaId = accountRepository.findByNickname("KJA").getId();
+
+        liveEventBroadcaster.sendToAccountsAfterCommit(List.of(kjaId), "notification", Map.of("message", "hello"));
+
+        // 이벤트 이름과 데이터는 나눠서 쓰이므로 데이터까지 들어올 때까지 기다린다.
+        Await.until(() -> content(response).contains("event:notification\ndata:{\"message\":\"hello\"}"));
+    }
+
+    @DisplayName("동아리 상태 변경은 그 동아리를 보고 있는 연결에만 보낸다")
+    @Test
+    void studyUpdate() throws Exception {
+        MockHttpServletResponse watching = connect("/live?study=1001");
+        MockHttpServletResponse other = connect("/live?study=1002");
+
+        transactionTemplate.executeWithoutResult(status ->
+                eventPublisher.publishEvent(new StudyUpdateEvent(1001L, "recruiting")));
+
+        Await.until(() -> content(watching).contains("event:study\ndata:{\"message\":\"recruiting\"}"));
+        assertFalse(content(other).contains("event:study"));
+    }
+
+    @DisplayName("로그인하지 않으면 알림 연결을 열 수 없다")
+    @Test
+    void notification_anonymous() throws Exception {
+        mockMvc.perform(get("/live"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("로그인하지 않은 동아리 연결은 클라이언트마다 수를 제한한다")
+    @Test
+    void studyUpdate_anonymousLimit() throws Exception {
+        int limit = appProperties.getLiveAnonymousConnectionsPerClient();
+        for (int i = 0; i < limit; i++) {
+            connect(get("/live?study=1003").with(remoteAddr("10.0.0.23")));
+        }
+
+        mockMvc.perform(get("/live?study=1003").with(remoteAddr("10.0.0.23")))
+                .andExpect(status().isTooManyRequests());
+        connect(get("/live?study=1003").with(remoteAddr("10.0.0.24")));
+    }
+
+    private MockHttpServletResponse connect(String url) throws Exception {
+        return connect(get(url));
+    }
+
+    private MockHttpServletResponse connect(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = result.getResponse();
+        Await.until(() -> content(response).contains(":connected"));
+        return response;
+    }
+
+    private RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    private String content(MockHttpServletResponse response) {
+        try {
+            return response.getContentAsString();
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
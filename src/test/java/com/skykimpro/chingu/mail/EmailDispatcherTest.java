@@ -0,0 +1,93 @@
+package com.skykimpro.chingu.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.skykimpro.chingu.Await;
+import com.skykimpro.chingu.domain.DeadLetterEmail;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import javax.mail.internet.MimeMessage;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "app.mail-poll-interval=100",
+        "app.mail-retry-delay=0s",
+        "app.mail-max-attempts=2"
+})
+@Import(EmailDispatcherTest.SmtpConfig.class)
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired EmailService emailService;
+    @Autowired OutboxEmailRepository outboxEmailRepository;
+    @Autowired DeadLetterEmailRepository deadLetterEmailRepository;
+
+    /**
+     * 컴포넌트 스캔에 잡히지 않도록 설정 애노테이션 없이 Import 한다.
+     */
+    static class SmtpConfig {
+
+        @Bean
+        @Primary
+        EmailSender smtpEmailSender(JavaMailSender javaMailSender) {
+            return new HtmlEmailSender(javaMailSender);
+        }
+    }
+
+    @AfterEach
+    void afterEach() {
+        outboxEmailRepository.deleteAll();
+        deadLetterEmailRepository.deleteAll();
+    }
+
+    @DisplayName("커밋된 메일은 SMTP 서버로 발송하고 outbox에서 지운다")
+    @Test
+    void sendEmail() throws Exception {
+        emailService.sendEmail(message("kja@email.com", "Chingu 회원 가입 인증"));
+        emailService.sendEmail(message("kja2@email.com", "Chingu 로그인 링크"));
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 2));
+        Set<String> subjects = new HashSet<>();
+        for (MimeMessage received : greenMail.getReceivedMessages()) {
+            subjects.add(received.getSubject());
+        }
+        assertEquals(Set.of("Chingu 회원 가입 인증", "Chingu 로그인 링크"), subjects);
+        Await.until(() -> outboxEmailRepository.count() == 0);
+    }
+
+    @DisplayName("재시도 횟수를 넘기면 dead letter 테이블로 옮긴다")
+    @Test
+    void sendEmail_deadLetter() throws Exception {
+        greenMail.stop();
+
+        emailService.sendEmail(message("kja@email.com", "Chingu 회원 가입 인증"));
+
+        Await.until(() -> deadLetterEmailRepository.count() == 1);
+        List<DeadLetterEmail> deadLetters = deadLetterEmailRepository.findAll();
+        assertEquals("kja@email.com", deadLetters.get(0).getRecipient());
+        assertEquals(2, deadLetters.get(0).getAttempts());
+        assertNotNull(deadLetters.get(0).getLastError());
+        assertEquals(0, outboxEmailRepository.count());
+    }
+
+    private EmailMessage message(String to, String subject) {
+        return EmailMessage.builder().to(to).subject(subject).message("<p>test</p>").build();
+    }
+}
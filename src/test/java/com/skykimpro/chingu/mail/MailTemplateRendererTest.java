@@ -0,0 +1,45 @@
+package com.skykimpro.chingu.mail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailTemplateRendererTest {
+
+    private final MailTemplateRenderer renderer = new MailTemplateRenderer();
+
+    @DisplayName("받는 사람마다 변수를 바꿔서 렌더링한다")
+    @Test
+    void renderAll() {
+        List<String> messages = renderer.renderAll("mail/simple-link", List.of(variables("kja"), variables("sky")));
+
+        assertEquals(2, messages.size());
+        assertTrue(messages.get(0).contains("<span>kja</span>"));
+        assertFalse(messages.get(0).contains("sky"));
+        assertTrue(messages.get(1).contains("<span>sky</span>"));
+        assertTrue(messages.get(1).contains("http://localhost:8080/login-by-email?token=sky"));
+    }
+
+    @DisplayName("Writer로 바로 렌더링한 결과도 같다")
+    @Test
+    void render_writer() {
+        StringWriter writer = new StringWriter();
+        renderer.render("mail/simple-link", variables("kja"), writer);
+
+        assertEquals(renderer.render("mail/simple-link", variables("kja")), writer.toString());
+    }
+
+    private Map<String, Object> variables(String nickname) {
+        return Map.of(
+                "link", "/login-by-email?token=" + nickname,
+                "nickname", nickname,
+                "linkName", "이메일로 로그인하기",
+                "message", "로그인 하려면 이용하려면 링크를 클릭하세요.",
+                "host", "http://localhost:8080");
+    }
+}
@@ -0,0 +1,147 @@
+package com.skykimpro.chingu.main;
+
+import com.skykimpro.chingu.SqlStatementCollector;
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.account.AccountService;
+import com.skykimpro.chingu.account.SignUpForm;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.domain.Tag;
+import com.skykimpro.chingu.domain.Zone;
+import com.skykimpro.chingu.notification.StudyEventListener;
+import com.skykimpro.chingu.search.StudySearchIndex;
+import com.skykimpro.chingu.study.StudyRepository;
+import com.skykimpro.chingu.study.StudyService;
+import com.skykimpro.chingu.tag.TagRepository;
+import com.skykimpro.chingu.zone.ZoneService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 동아리가 바뀌면 커밋된 뒤에 피드 캐시를 지우므로 테스트 트랜잭션 없이 실제로 커밋하고,
+ * 피드를 지우는 작업이 끝날 때까지 기다린 뒤 확인한다.
+ */
+@SpringBootTest(properties = SqlStatementCollector.PROPERTY)
+class HomeFeedServiceTest {
+
+    @Autowired HomeFeedService homeFeedService;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired AccountService accountService;
+    @Autowired AccountRepository accountRepository;
+    @Autowired StudyService studyService;
+    @Autowired StudyRepository studyRepository;
+    @Autowired TagRepository tagRepository;
+    @Autowired ZoneService zoneService;
+    @Autowired StudyEventListener studyEventListener;
+    @Autowired StudySearchIndex studySearchIndex;
+
+    private Account account;
+    private Tag spring;
+    private Zone andong;
+    private Zone seoul;
+
+    @BeforeEach
+    void beforeEach() {
+        andong = zoneService.getZone("Andong", "North Gyeongsang");
+        seoul = zoneService.getZone("Seoul", "none");
+        account = transactionTemplate.execute(status -> {
+            SignUpForm signUpForm = new SignUpForm();
+            signUpForm.setNickname("feeder");
+            signUpForm.setEmail("feeder@email.com");
+            signUpForm.setPassword("12345678");
+            Account newAccount = accountService.processNewAccount(signUpForm);
+            spring = tagRepository.save(Tag.builder().title("spring").build());
+            accountService.addTag(newAccount, spring);
+            accountService.addZone(newAccount, andong);
+            return newAccount;
+        });
+    }
+
+    @AfterEach
+    void afterEach() {
+        // 모집 시작 알림이 아직 만들어지는 중일 수 있으므로 끝날 때까지 기다린 뒤 지운다.
+        studyEventListener.whenNotified().join();
+        studyRepository.deleteAll();
+        accountRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @DisplayName("관심 태그와 지역이 모두 겹치는 모집 중인 동아리만 피드에 보여준다")
+    @Test
+    void feed_matchesTagsAndZones() {
+        createStudy("recruiting", andong, true);
+        createStudy("not-recruiting", andong, false);
+        createStudy("other-zone", seoul, true);
+
+        assertEquals(List.of("recruiting"), feedPaths());
+    }
+
+    @DisplayName("한 번 만든 피드는 DB를 다시 조회하지 않는다")
+    @Test
+    void feed_cached() {
+        createStudy("recruiting", andong, true);
+        assertEquals(List.of("recruiting"), feedPaths());
+        // 공개 알림을 만드는 스레드의 조회가 섞이지 않게 끝날 때까지 기다린 뒤 센다.
+        studyEventListener.whenNotified().join();
+        studySearchIndex.whenIndexed().join();
+
+        SqlStatementCollector.clear();
+        assertEquals(List.of("recruiting"), feedPaths());
+        assertEquals(0, SqlStatementCollector.countContains("from study"));
+    }
+
+    @DisplayName("동아리가 모집을 시작하면 관심사가 겹치는 사용자의 피드를 다시 만든다")
+    @Test
+    void feed_evictedWhenStudyChanges() {
+        Study study = createStudy("later", andong, false);
+        assertEquals(List.of(), feedPaths());
+
+        transactionTemplate.executeWithoutResult(status -> studyService.startRecruit(studyRepository.findByPath(study.getPath())));
+        homeFeedService.whenEvicted().join();
+
+        assertEquals(List.of("later"), feedPaths());
+    }
+
+    @DisplayName("관심 지역을 바꾸면 피드를 다시 만든다")
+    @Test
+    void feed_evictedWhenAccountChanges() {
+        createStudy("seoul-study", seoul, true);
+        assertEquals(List.of(), feedPaths());
+
+        transactionTemplate.executeWithoutResult(status -> accountService.addZone(accountRepository.findById(account.getId()).orElseThrow(), seoul));
+
+        assertEquals(List.of("seoul-study"), feedPaths());
+    }
+
+    private Study createStudy(String path, Zone zone, boolean recruiting) {
+        Study created = transactionTemplate.execute(status -> {
+            Study study = new Study();
+            study.setPath(path);
+            study.setTitle(path);
+            Study newStudy = studyService.createNewStudy(study, accountRepository.findById(account.getId()).orElseThrow());
+            studyService.addTag(newStudy, spring);
+            studyService.addZone(newStudy, zone);
+            studyService.publish(newStudy);
+            if (recruiting) {
+                studyService.startRecruit(newStudy);
+            }
+            return newStudy;
+        });
+        homeFeedService.whenEvicted().join();
+        return created;
+    }
+
+    private List<String> feedPaths() {
+        return homeFeedService.getFeed(account).stream().map(FeedStudy::getPath).collect(Collectors.toList());
+    }
+}
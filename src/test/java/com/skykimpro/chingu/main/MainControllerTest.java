@@ -3,6 +3,7 @@ package com.skykimpro.chingu.main;
 import com.skykimpro.chingu.account.AccountRepository;
 import com.skykimpro.chingu.account.AccountService;
 import com.skykimpro.chingu.account.SignUpForm;
+import com.skykimpro.chingu.domain.Account;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -71,6 +73,24 @@ class MainControllerTest {
                 .andExpect(authenticated().withUsername("kja"));
     }
 
+    @DisplayName("예전 강도로 저장된 패스워드는 로그인할 때 다시 해시한다")
+    @Test
+    void login_rehashOutdatedPassword() throws Exception {
+        Account account = accountRepository.findByNickname("kja");
+        account.setPassword("{bcrypt}" + new BCryptPasswordEncoder(4).encode("12345678"));
+        accountRepository.save(account);
+
+        mockMvc.perform(post("/login")
+                .param("username", "kja")
+                .param("password", "12345678")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(authenticated().withUsername("kja"));
+
+        String password = accountRepository.findByNickname("kja").getPassword();
+        assertTrue(password.startsWith("{bcrypt}$2a$10$"));
+    }
+
     @DisplayName("로그인 실패")
     @Test
     void login_fail() throws Exception {
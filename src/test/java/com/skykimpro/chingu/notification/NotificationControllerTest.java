@@ -0,0 +1,105 @@
+package com.skykimpro.chingu.notification;
+
+import com.skykimpro.chingu.SqlStatementCollector;
+import com.skykimpro.chingu.WithAccount;
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Notification;
+import com.skykimpro.chingu.domain.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = SqlStatementCollector.PROPERTY)
+@AutoConfigureMockMvc
+@Transactional
+class NotificationControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired AccountRepository accountRepository;
+    @Autowired NotificationRepository notificationRepository;
+
+    @AfterEach
+    void afterEach() {
+        accountRepository.deleteAll();
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("새 알림 목록을 보여주고 모두 읽음으로 바꾼다")
+    @Test
+    void newNotifications() throws Exception {
+        Account kja = accountRepository.findByNickname("KJA");
+        saveNotification(kja, "첫 번째 알림");
+        saveNotification(kja, "두 번째 알림");
+
+        mockMvc.perform(get("/notifications"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("notification/list"))
+                .andExpect(model().attribute("numberOfNotChecked", 2L))
+                .andExpect(model().attribute("numberOfChecked", 0L))
+                .andExpect(model().attribute("isNew", true))
+                .andExpect(model().attribute("unreadNotificationCount", 0L));
+
+        assertEquals(0, notificationRepository.countByAccountIdAndChecked(kja.getId(), false));
+
+        mockMvc.perform(get("/notifications/old"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("numberOfChecked", 2L))
+                .andExpect(model().attribute("isNew", false));
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("새 알림 목록에 보여준 알림만 읽음으로 바꾼다")
+    @Test
+    void newNotifications_onlyRenderedChecked() throws Exception {
+        Account kja = accountRepository.findByNickname("KJA");
+        for (int i = 0; i <= NotificationService.NOTIFICATIONS_PAGE_SIZE; i++) {
+            saveNotification(kja, "알림 " + i);
+        }
+
+        mockMvc.perform(get("/notifications"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("numberOfNotChecked", NotificationService.NOTIFICATIONS_PAGE_SIZE + 1L))
+                .andExpect(model().attribute("unreadNotificationCount", 1L));
+
+        assertEquals(1, notificationRepository.countByAccountIdAndChecked(kja.getId(), false));
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("내비게이션 바의 읽지 않은 알림 수는 처음 한 번만 DB에서 센다")
+    @Test
+    void unreadCount_servedFromMemory() throws Exception {
+        Account kja = accountRepository.findByNickname("KJA");
+        saveNotification(kja, "알림");
+
+        mockMvc.perform(get("/"))
+                .andExpect(model().attribute("unreadNotificationCount", 1L));
+
+        SqlStatementCollector.clear();
+        mockMvc.perform(get("/"))
+                .andExpect(model().attribute("unreadNotificationCount", 1L));
+        assertEquals(0, SqlStatementCollector.countContains("from notification"));
+    }
+
+    private void saveNotification(Account account, String message) {
+        notificationRepository.save(Notification.builder()
+                .title("테스트 동아리")
+                .link("/study/test")
+                .message(message)
+                .account(account)
+                .createdDateTime(LocalDateTime.now())
+                .notificationType(NotificationType.STUDY_UPDATED)
+                .build());
+    }
+}
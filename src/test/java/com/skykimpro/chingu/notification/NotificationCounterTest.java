@@ -0,0 +1,36 @@
+package com.skykimpro.chingu.notification;
+
+import com.skykimpro.chingu.Await;
+import com.skykimpro.chingu.config.AppProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class NotificationCounterTest {
+
+    NotificationRepository notificationRepository = mock(NotificationRepository.class);
+
+    @DisplayName("DB에서 센 지 notificationCounterTtl 이 지나면 더하고 뺀 것과 상관없이 다시 센다")
+    @Test
+    void recountedAfterTtl() throws Exception {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setNotificationCounterTtl(Duration.ofMillis(500));
+        NotificationCounter notificationCounter = new NotificationCounter(notificationRepository, appProperties);
+        given(notificationRepository.countByAccountIdAndChecked(1L, false)).willReturn(1L, 1000L);
+
+        assertEquals(1, notificationCounter.getUnreadCount(1L));
+        notificationCounter.incrementAfterCommit(List.of(1L));
+        assertEquals(2, notificationCounter.getUnreadCount(1L));
+
+        Await.until(() -> {
+            notificationCounter.incrementAfterCommit(List.of(1L));
+            return notificationCounter.getUnreadCount(1L) == 1000;
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package com.skykimpro.chingu.notification;
+
+import com.skykimpro.chingu.Await;
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.account.AccountService;
+import com.skykimpro.chingu.account.SignUpForm;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.FailedNotificationBatch;
+import com.skykimpro.chingu.domain.Notification;
+import com.skykimpro.chingu.domain.NotificationType;
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.domain.Tag;
+import com.skykimpro.chingu.domain.Zone;
+import com.skykimpro.chingu.mail.EmailMessage;
+import com.skykimpro.chingu.mail.EmailSender;
+import com.skykimpro.chingu.study.StudyRepository;
+import com.skykimpro.chingu.study.StudyService;
+import com.skykimpro.chingu.tag.TagRepository;
+import com.skykimpro.chingu.zone.ZoneService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 알림은 커밋된 뒤에 만들어지므로 테스트 트랜잭션 없이 실제로 커밋하고 정리한다.
+ */
+@SpringBootTest
+@Import(StudyEventListenerTest.RecordingConfig.class)
+class StudyEventListenerTest {
+
+    @Autowired StudyEventListener studyEventListener;
+    @Autowired NotificationRepository notificationRepository;
+    @Autowired NotificationCounter notificationCounter;
+    @Autowired FailedNotificationBatchRepository failedNotificationBatchRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired AccountService accountService;
+    @Autowired AccountRepository accountRepository;
+    @Autowired StudyService studyService;
+    @Autowired StudyRepository studyRepository;
+    @Autowired TagRepository tagRepository;
+    @Autowired ZoneService zoneService;
+    @Autowired RecordingEmailSender emailSender;
+
+    /**
+     * 컴포넌트 스캔에 잡히지 않도록 설정 애노테이션 없이 Import 한다.
+     */
+    static class RecordingConfig {
+
+        @Bean
+        @Primary
+        RecordingEmailSender recordingEmailSender() {
+            return new RecordingEmailSender();
+        }
+    }
+
+    static class RecordingEmailSender implements EmailSender {
+
+        final List<EmailMessage> sent = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Map<EmailMessage, Exception> send(List<EmailMessage> emailMessages) {
+            sent.addAll(emailMessages);
+            return Map.of();
+        }
+    }
+
+    private Account manager;
+    private Account interested;
+    private Account other;
+    private Tag tag;
+    private Zone andong;
+
+    @BeforeEach
+    void beforeEach() {
+        emailSender.sent.clear();
+        andong = zoneService.getZone("Andong", "North Gyeongsang");
+        Zone seoul = zoneService.getZone("Seoul", "none");
+        transactionTemplate.executeWithoutResult(status -> {
+            tag = tagRepository.save(Tag.builder().title("notify-tag").build());
+            manager = signUp("manager");
+            interested = signUp("interested");
+            interested.setStudyCreatedByEmail(true);
+            accountService.addTag(interested, tag);
+            accountService.addZone(interested, andong);
+            other = signUp("other");
+            accountService.addTag(other, tag);
+            accountService.addZone(other, seoul);
+        });
+    }
+
+    @AfterEach
+    void afterEach() {
+        notificationRepository.deleteAll();
+        failedNotificationBatchRepository.deleteAll();
+        studyRepository.deleteAll();
+        accountRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @DisplayName("동아리를 공개하면 태그와 지역이 겹치는 사용자에게만 웹 알림과 메일을 보낸다")
+    @Test
+    void studyCreated() throws InterruptedException {
+        Study study = createStudy();
+        assertEquals(0, notificationCounter.getUnreadCount(interested.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> studyService.publish(studyRepository.findByPath(study.getPath())));
+        studyEventListener.whenNotified().join();
+
+        assertEquals(1, notificationCounter.getUnreadCount(interested.getId()));
+        List<Notification> notifications = notificationRepository.findAll();
+        assertEquals(1, notifications.size());
+        assertEquals(interested.getId(), notifications.get(0).getAccount().getId());
+        assertEquals(NotificationType.STUDY_CREATED, notifications.get(0).getNotificationType());
+        assertEquals("/study/notify-study", notifications.get(0).getLink());
+
+        // 가입 인증 메일도 같은 발송기로 나가므로 동아리 알림 메일만 골라서 본다.
+        Await.until(() -> !studyMailRecipients().isEmpty());
+        assertEquals(List.of(interested.getEmail()), studyMailRecipients());
+    }
+
+    @DisplayName("공개된 동아리가 모집을 시작하면 관리자에게 알린다")
+    @Test
+    void studyUpdated() throws InterruptedException {
+        Study study = createStudy();
+        transactionTemplate.executeWithoutResult(status -> studyService.publish(studyRepository.findByPath(study.getPath())));
+        studyEventListener.whenNotified().join();
+        // 공개 알림 메일이 다음 테스트로 넘어가지 않게 도착할 때까지 기다린다.
+        Await.until(() -> !studyMailRecipients().isEmpty());
+        notificationRepository.deleteAll();
+
+        transactionTemplate.executeWithoutResult(status -> studyService.startRecruit(studyRepository.findByPath(study.getPath())));
+        studyEventListener.whenNotified().join();
+
+        List<Notification> notifications = notificationRepository.findAll();
+        assertEquals(1, notifications.size());
+        assertEquals(manager.getId(), notifications.get(0).getAccount().getId());
+        assertEquals(NotificationType.STUDY_UPDATED, notifications.get(0).getNotificationType());
+        assertEquals("팀원 모집을 시작합니다.", notifications.get(0).getMessage());
+    }
+
+    @DisplayName("저장하지 못한 알림 묶음은 나중에 다시 만든다")
+    @Test
+    void failedBatchRetried() {
+        Study study = createStudy();
+        failedNotificationBatchRepository.save(FailedNotificationBatch.builder()
+                .studyId(study.getId())
+                .notificationType(NotificationType.STUDY_UPDATED)
+                .message("다시 보내는 알림")
+                .accountIds(manager.getId().toString())
+                .attempts(1)
+                .createdAt(LocalDateTime.now())
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        studyEventListener.retryFailedBatches();
+        studyEventListener.whenNotified().join();
+
+        List<Notification> notifications = notificationRepository.findAll();
+        assertEquals(1, notifications.size());
+        assertEquals(manager.getId(), notifications.get(0).getAccount().getId());
+        assertEquals("다시 보내는 알림", notifications.get(0).getMessage());
+        assertEquals(0, failedNotificationBatchRepository.count());
+    }
+
+    private List<String> studyMailRecipients() {
+        return emailSender.sent.stream()
+                .filter(emailMessage -> emailMessage.getSubject().contains("알림 동아리"))
+                .map(EmailMessage::getTo)
+                .collect(Collectors.toList());
+    }
+
+    private Account signUp(String nickname) {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname(nickname);
+        signUpForm.setEmail(nickname + "@email.com");
+        signUpForm.setPassword("12345678");
+        return accountService.processNewAccount(signUpForm);
+    }
+
+    private Study createStudy() {
+        return transactionTemplate.execute(status -> {
+            Study study = new Study();
+            study.setPath("notify-study");
+            study.setTitle("알림 동아리");
+            Study newStudy = studyService.createNewStudy(study, accountRepository.findById(manager.getId()).orElseThrow());
+            studyService.addTag(newStudy, tag);
+            studyService.addZone(newStudy, andong);
+            return newStudy;
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package com.skykimpro.chingu.search;
+
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.account.AccountService;
+import com.skykimpro.chingu.account.SignUpForm;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.domain.Tag;
+import com.skykimpro.chingu.study.StudyChangedEvent;
+import com.skykimpro.chingu.study.StudyRepository;
+import com.skykimpro.chingu.study.StudyService;
+import com.skykimpro.chingu.tag.TagRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 색인은 커밋된 뒤에 갱신되므로 테스트 트랜잭션 없이 실제로 커밋하고 정리한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SearchControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired AccountService accountService;
+    @Autowired AccountRepository accountRepository;
+    @Autowired StudyService studyService;
+    @Autowired StudyRepository studyRepository;
+    @Autowired TagRepository tagRepository;
+    @Autowired StudySearchIndex studySearchIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            SignUpForm signUpForm = new SignUpForm();
+            signUpForm.setNickname("searcher");
+            signUpForm.setEmail("searcher@email.com");
+            signUpForm.setPassword("12345678");
+            Account manager = accountService.processNewAccount(signUpForm);
+
+            Study kotlin = createStudy(manager, "kotlin-study", "코틀린 동아리", "<p>매주 모여서 공부합니다.</p>", true);
+            Study java = createStudy(manager, "java-study", "자바 모임", "<p>가끔 <b>코틀린</b>도 다룹니다.</p>", true);
+            createStudy(manager, "secret-study", "코틀린 비공개 모임", "<p>아직 준비 중입니다.</p>", false);
+            studyService.addTag(java, tagRepository.save(Tag.builder().title("스칼라").build()));
+        });
+        studySearchIndex.whenIndexed().join();
+    }
+
+    @AfterEach
+    void afterEach() {
+        List<Study> studies = studyRepository.findAll();
+        studyRepository.deleteAll();
+        // 삭제는 이벤트를 내지 않으므로 색인에서 직접 지운다.
+        studies.forEach(study -> studySearchIndex.handleStudyChangedEvent(new StudyChangedEvent(study.getId())));
+        studySearchIndex.whenIndexed().join();
+        tagRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @DisplayName("제목에서 찾은 동아리가 소개에서 찾은 동아리보다 먼저 나오고 공개하지 않은 동아리는 빠진다")
+    @Test
+    void searchStudy_ranked() throws Exception {
+        assertEquals(List.of("kotlin-study", "java-study"), searchPaths("코틀린", 0, 10));
+    }
+
+    @DisplayName("태그로도 동아리를 찾는다")
+    @Test
+    void searchStudy_byTag() throws Exception {
+        assertEquals(List.of("java-study"), searchPaths("스칼라", 0, 10));
+    }
+
+    @DisplayName("검색 결과를 페이지로 나눈다")
+    @Test
+    void searchStudy_paged() throws Exception {
+        assertEquals(List.of("java-study"), searchPaths("코틀린", 1, 1));
+    }
+
+    @DisplayName("일치하는 동아리가 없으면 빈 결과를 보여준다")
+    @Test
+    void searchStudy_noResult() throws Exception {
+        assertEquals(List.of(), searchPaths("하스켈", 0, 10));
+    }
+
+    private Study createStudy(Account manager, String path, String title, String fullDescription, boolean published) {
+        Study study = new Study();
+        study.setPath(path);
+        study.setTitle(title);
+        study.setShortDescription(title + " 입니다.");
+        study.setFullDescription(fullDescription);
+        Study newStudy = studyService.createNewStudy(study, manager);
+        if (published) {
+            studyService.publish(newStudy);
+        }
+        return newStudy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> searchPaths(String keyword, int page, int size) throws Exception {
+        Page<Study> studyPage = (Page<Study>) mockMvc.perform(get("/search/study")
+                        .param("keyword", keyword)
+                        .param("page", String.valueOf(page))
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andExpect(view().name("search"))
+                .andExpect(model().attribute("keyword", keyword))
+                .andReturn().getModelAndView().getModel().get("studyPage");
+        return studyPage.getContent().stream().map(Study::getPath).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,89 @@
+package com.skykimpro.chingu.search;
+
+import com.skykimpro.chingu.config.AppProperties;
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.study.StudyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 파일에 둔 색인을 닫았다가 다시 여는 상황이라 테스트 트랜잭션 없이 실제로 커밋하고 정리한다.
+ * 색인 작업은 SyncTaskExecutor 로 여는 스레드에서 바로 실행한다.
+ */
+@SpringBootTest
+class StudySearchIndexTest {
+
+    static final PageRequest PAGE = PageRequest.of(0, 10);
+
+    @Autowired StudyRepository studyRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @TempDir
+    Path indexDir;
+
+    @AfterEach
+    void afterEach() {
+        studyRepository.deleteAll();
+    }
+
+    @DisplayName("파일 색인을 다시 열면 꺼져 있는 동안 바뀐 동아리를 따라잡는다")
+    @Test
+    void reopen_catchesUp() throws Exception {
+        Study edited = save("edited-study", "코틀린 동아리");
+        Study removed = save("removed-study", "코틀린 모임");
+        StudySearchIndex index = open();
+        assertEquals(List.of(edited.getId(), removed.getId()), sorted(index.search("코틀린", PAGE)));
+        index.close();
+
+        transactionTemplate.executeWithoutResult(status ->
+                studyRepository.findById(edited.getId()).orElseThrow().setTitle("자바 동아리"));
+        studyRepository.deleteById(removed.getId());
+        Study added = save("added-study", "자바 모임");
+
+        StudySearchIndex reopened = open();
+        try {
+            assertEquals(List.of(), reopened.search("코틀린", PAGE).getContent());
+            assertEquals(List.of(edited.getId(), added.getId()), sorted(reopened.search("자바", PAGE)));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    private StudySearchIndex open() throws Exception {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setSearchIndexDir(indexDir.toString());
+        StudySearchIndex index = new StudySearchIndex(studyRepository, transactionManager, new SyncTaskExecutor(), appProperties);
+        index.open();
+        return index;
+    }
+
+    private List<Long> sorted(Page<Long> page) {
+        return page.getContent().stream().sorted().collect(Collectors.toList());
+    }
+
+    private Study save(String path, String title) {
+        Study study = new Study();
+        study.setPath(path);
+        study.setTitle(title);
+        study.setPublished(true);
+        study.setPublishedDateTime(LocalDateTime.now());
+        return studyRepository.save(study);
+    }
+}
@@ -11,6 +11,7 @@ import com.skykimpro.chingu.domain.Account;
 import com.skykimpro.chingu.domain.Tag;
 import com.skykimpro.chingu.settings.form.TagForm;
 import com.skykimpro.chingu.zone.ZoneRepository;
+import com.skykimpro.chingu.zone.ZoneService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -43,18 +44,19 @@ class SettingsControllerTest {
     @Autowired TagRepository tagRepository;
     @Autowired AccountService accountService;
     @Autowired ZoneRepository zoneRepository;
+    @Autowired ZoneService zoneService;
 
-    private Zone testZone = Zone.builder().city("test").localNameOfCity("테스트시").province("테스트주").build();
+    private Zone testZone;
 
     @BeforeEach
     void beforeEach(){
-        zoneRepository.save(testZone);
+        // 지역 목록은 시작할 때 별도 스레드에서 들어가므로 다 들어갈 때까지 기다리는 ZoneService로 찾는다.
+        testZone = zoneService.getZone("Andong", "North Gyeongsang");
     }
 
     @AfterEach
     void afterEach(){
         accountRepository.deleteAll();
-        zoneRepository.deleteAll();
     }
 
     @WithAccount("KJA")
@@ -102,6 +104,18 @@ class SettingsControllerTest {
         assertNotEquals(bio, kja.getBio());
     }
 
+    @WithAccount("KJA")
+    @DisplayName("프로필 수정하기 - 이미지 형식 에러")
+    @Test
+    void updateProfile_invalidImage() throws Exception {
+        mockMvc.perform(post(ROOT + SETTINGS + PROFILE)
+                .param("profileImage", "data:text/html;base64,PGgxPg==")
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name(SETTINGS + PROFILE))
+                .andExpect(model().attributeHasFieldErrors("profile", "profileImage"));
+    }
+
     @WithAccount("KJA")
     @DisplayName("패스워드 수정 폼")
     @Test
@@ -192,7 +206,7 @@ class SettingsControllerTest {
         mockMvc.perform(get(ROOT + SETTINGS + TAGS))
                 .andExpect(view().name(SETTINGS + TAGS))
                 .andExpect(model().attributeExists("account"))
-                .andExpect(model().attributeExists("whitelist"))
+                .andExpect(model().attributeDoesNotExist("whitelist"))
                 .andExpect(model().attributeExists("tags"));
     }
 
@@ -244,7 +258,6 @@ class SettingsControllerTest {
         mockMvc.perform(get(ROOT + SETTINGS + ZONES))
                 .andExpect(view().name(SETTINGS + ZONES))
                 .andExpect(model().attributeExists("account"))
-                .andExpect(model().attributeExists("whitelist"))
                 .andExpect(model().attributeExists("zones"));
     }
 
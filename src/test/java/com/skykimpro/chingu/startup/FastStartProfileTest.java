@@ -0,0 +1,48 @@
+package com.skykimpro.chingu.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fast-start;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@ActiveProfiles({"local", "fast-start"})
+class FastStartProfileTest {
+
+    @Autowired ConfigurableApplicationContext context;
+    @Autowired BeanStartupTimer beanStartupTimer;
+
+    @DisplayName("fast-start 프로필에서는 처음 사용할 때 빈을 만들고, 주기 작업이 있는 빈만 바로 만든다")
+    @Test
+    void lazyInitialization() {
+        assertFalse(context.getBeanFactory().containsSingleton("tagController"));
+        assertTrue(context.getBeanFactory().containsSingleton("emailDispatcher"));
+        assertTrue(context.getBeanFactory().containsSingleton("zoneDataLoader"));
+        assertTrue(context.getBeanFactory().containsSingleton("tokenRepository"));
+        assertTrue(context.getBeanFactory().containsSingleton("studyEventListener"));
+
+        context.getBean("tagController");
+        assertTrue(context.getBeanFactory().containsSingleton("tagController"));
+    }
+
+    @DisplayName("빈마다 생성에 걸린 시간을 기록한다")
+    @Test
+    void startupReport() {
+        assertTrue(beanStartupTimer.getSelfNanos().containsKey("zoneDataLoader"));
+        assertFalse(beanStartupTimer.getSelfNanos().containsKey("availabilityController"));
+    }
+
+    @DisplayName("컴포넌트 스캔은 컴파일할 때 만든 색인을 사용한다")
+    @Test
+    void componentIndex() {
+        assertNotNull(CandidateComponentsIndexLoader.loadIndex(getClass().getClassLoader()));
+    }
+}
@@ -0,0 +1,196 @@
+package com.skykimpro.chingu.study;
+
+import com.skykimpro.chingu.SqlStatementCollector;
+import com.skykimpro.chingu.WithAccount;
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = SqlStatementCollector.PROPERTY)
+@AutoConfigureMockMvc
+@Transactional
+class StudyControllerTest {
+
+    static final String PATH = "test-study";
+
+    @Autowired MockMvc mockMvc;
+    @Autowired StudyService studyService;
+    @Autowired StudyRepository studyRepository;
+    @Autowired AccountRepository accountRepository;
+    @Autowired EntityManager entityManager;
+
+    @BeforeEach
+    void beforeEach() {
+        Account kja = accountRepository.findByNickname("KJA");
+        Study study = new Study();
+        study.setPath(PATH);
+        study.setTitle("테스트 동아리");
+        study.setShortDescription("짧은 소개");
+        study.setFullDescription("<p>긴 소개</p>");
+        studyService.createNewStudy(study, kja);
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCollector.clear();
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("동아리 조회 - 상세 소개를 읽는다")
+    @Test
+    void viewStudy() throws Exception {
+        mockMvc.perform(get("/study/" + PATH))
+                .andExpect(status().isOk())
+                .andExpect(view().name("study/view"))
+                .andExpect(model().attributeExists("account"))
+                .andExpect(model().attributeExists("study"));
+
+        assertTrue(SqlStatementCollector.anyContains("full_description"));
+        assertFalse(Hibernate.isInitialized(studyRepository.findByPath(PATH).getManagers()));
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("동아리 구성원 조회 - 상세 소개를 읽지 않는다")
+    @Test
+    void viewStudyMembers() throws Exception {
+        mockMvc.perform(get("/study/" + PATH + "/members"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("study/members"));
+
+        assertFalse(SqlStatementCollector.anyContains("full_description"));
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("동아리 구성원 조회 - 구성원 아이디 기준으로 나눠서 조회")
+    @Test
+    void viewStudyMembers_paged() throws Exception {
+        Study study = studyRepository.findByPath(PATH);
+        for (int i = 0; i < StudyService.MEMBERS_PAGE_SIZE + 5; i++) {
+            Account member = accountRepository.save(Account.builder()
+                    .nickname("member" + i)
+                    .email("member" + i + "@cmd.ccc")
+                    .password("12345678")
+                    .build());
+            study.getMembers().add(member);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        MvcResult firstPage = mockMvc.perform(get("/study/" + PATH + "/members"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("members", hasSize(StudyService.MEMBERS_PAGE_SIZE)))
+                .andExpect(model().attributeExists("nextMemberId"))
+                .andReturn();
+
+        Long nextMemberId = (Long) firstPage.getModelAndView().getModel().get("nextMemberId");
+        mockMvc.perform(get("/study/" + PATH + "/members")
+                .param("after", nextMemberId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("members", hasSize(5)))
+                .andExpect(model().attributeDoesNotExist("nextMemberId"));
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("동아리 가입과 탈퇴 - 구성원 컬렉션을 읽지 않고 인원 수를 바꾼다")
+    @Test
+    void joinAndLeave() throws Exception {
+        Account kja = accountRepository.findByNickname("KJA");
+        Account manager = accountRepository.save(Account.builder()
+                .nickname("manager")
+                .email("manager@cmd.ccc")
+                .password("12345678")
+                .build());
+        Study study = studyRepository.findByPath(PATH);
+        study.getManagers().clear();
+        study.addManager(manager);
+        study.publish();
+        study.startRecruit();
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(post("/study/" + PATH + "/join")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/study/" + PATH + "/members"));
+
+        assertFalse(Hibernate.isInitialized(studyRepository.findByPath(PATH).getMembers()));
+        entityManager.clear();
+        study = studyRepository.findByPath(PATH);
+        assertEquals(1, study.getMemberCount());
+        assertTrue(studyRepository.findMemberIds(study.getId()).contains(kja.getId()));
+
+        mockMvc.perform(post("/study/" + PATH + "/leave")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/study/" + PATH + "/members"));
+
+        entityManager.clear();
+        study = studyRepository.findByPath(PATH);
+        assertEquals(0, study.getMemberCount());
+        assertTrue(studyRepository.findMemberIds(study.getId()).isEmpty());
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("동아리 가입 - 두 번 가입하거나 모집이 끝난 뒤 가입하면 메시지와 함께 되돌아간다")
+    @Test
+    void join_twiceOrNotRecruiting() throws Exception {
+        Study study = studyRepository.findByPath(PATH);
+        study.getManagers().clear();
+        study.publish();
+        study.startRecruit();
+        entityManager.flush();
+        entityManager.clear();
+
+        mockMvc.perform(post("/study/" + PATH + "/join")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attributeCount(0));
+
+        mockMvc.perform(post("/study/" + PATH + "/join")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/study/" + PATH + "/members"))
+                .andExpect(flash().attributeExists("message"));
+
+        entityManager.clear();
+        study = studyRepository.findByPath(PATH);
+        assertEquals(1, study.getMemberCount());
+        study.setRecruiting(false);
+        entityManager.flush();
+
+        mockMvc.perform(post("/study/" + PATH + "/leave")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attributeCount(0));
+
+        mockMvc.perform(post("/study/" + PATH + "/join")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attributeExists("message"));
+
+        mockMvc.perform(post("/study/" + PATH + "/leave")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attributeExists("message"));
+    }
+}
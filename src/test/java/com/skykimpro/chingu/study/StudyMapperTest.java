@@ -0,0 +1,73 @@
+package com.skykimpro.chingu.study;
+
+import com.skykimpro.chingu.domain.Study;
+import com.skykimpro.chingu.study.form.StudyDescriptionForm;
+import com.skykimpro.chingu.study.form.StudyForm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.NameTokenizers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudyMapperTest {
+
+    private final StudyMapper studyMapper = Mappers.getMapper(StudyMapper.class);
+
+    private final ModelMapper modelMapper = legacyModelMapper();
+
+    @DisplayName("동아리 개설 폼 매핑 결과가 ModelMapper와 같다")
+    @Test
+    void toStudy() {
+        StudyForm studyForm = new StudyForm();
+        studyForm.setPath("spring-study");
+        studyForm.setTitle("스프링 스터디");
+        studyForm.setShortDescription("짧은 소개");
+        studyForm.setFullDescription("긴 소개");
+
+        Study expected = modelMapper.map(studyForm, Study.class);
+        Study actual = studyMapper.toStudy(studyForm);
+
+        assertEquals(expected.getPath(), actual.getPath());
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getShortDescription(), actual.getShortDescription());
+        assertEquals(expected.getFullDescription(), actual.getFullDescription());
+        assertNull(actual.getId());
+        assertNotNull(actual.getManagers());
+        assertNotNull(actual.getMembers());
+        assertNotNull(actual.getTags());
+        assertNotNull(actual.getZones());
+    }
+
+    @DisplayName("동아리 소개 폼을 만들고 덮어쓴 결과가 ModelMapper와 같다")
+    @Test
+    void description() {
+        Study study = new Study();
+        study.setPath("spring-study");
+        study.setShortDescription("짧은 소개");
+        study.setFullDescription("긴 소개");
+
+        assertEquals(modelMapper.map(study, StudyDescriptionForm.class), studyMapper.toDescriptionForm(study));
+
+        StudyDescriptionForm form = new StudyDescriptionForm();
+        form.setShortDescription("바뀐 소개");
+        Study expected = new Study();
+        expected.setFullDescription("긴 소개");
+        modelMapper.map(form, expected);
+        studyMapper.updateDescription(form, study);
+
+        assertEquals(expected.getShortDescription(), study.getShortDescription());
+        assertEquals(expected.getFullDescription(), study.getFullDescription());
+        assertEquals("spring-study", study.getPath());
+    }
+
+    /** 매퍼로 바꾸기 전 AppConfig에 있던 설정 그대로 */
+    private static ModelMapper legacyModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setDestinationNameTokenizer(NameTokenizers.UNDERSCORE)
+                .setSourceNameTokenizer(NameTokenizers.UNDERSCORE);
+        return modelMapper;
+    }
+}
@@ -0,0 +1,103 @@
+package com.skykimpro.chingu.study;
+
+import com.skykimpro.chingu.SqlStatementCollector;
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = SqlStatementCollector.PROPERTY)
+@Transactional
+class StudyMembershipServiceTest {
+
+    @Autowired StudyMembershipService studyMembershipService;
+    @Autowired StudyRepository studyRepository;
+    @Autowired AccountRepository accountRepository;
+    @Autowired EntityManager entityManager;
+
+    private Account manager;
+    private Account member;
+    private Account stranger;
+    private Study study;
+
+    @BeforeEach
+    void beforeEach() {
+        manager = save("manager");
+        member = save("member");
+        stranger = save("stranger");
+
+        Study newStudy = new Study();
+        newStudy.setPath("membership-study");
+        newStudy.setTitle("구성원 동아리");
+        newStudy.setPublished(true);
+        newStudy.setRecruiting(true);
+        newStudy.addManager(manager);
+        newStudy.getMembers().add(member);
+        studyRepository.save(newStudy);
+
+        entityManager.flush();
+        entityManager.clear();
+        study = studyRepository.findById(newStudy.getId()).orElseThrow();
+        SqlStatementCollector.clear();
+    }
+
+    @AfterEach
+    void afterEach() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("관리자와 구성원 여부를 컬렉션을 읽지 않고 확인한다")
+    @Test
+    void roles() {
+        assertTrue(studyMembershipService.isManager(study, manager));
+        assertFalse(studyMembershipService.isManager(study, member));
+        assertTrue(studyMembershipService.isMember(study, member));
+        assertFalse(studyMembershipService.isMember(study, stranger));
+
+        assertTrue(studyMembershipService.isJoinable(study, stranger));
+        assertFalse(studyMembershipService.isJoinable(study, manager));
+        assertFalse(studyMembershipService.isJoinable(study, member));
+        assertFalse(studyMembershipService.isJoinable(study, null));
+
+        assertFalse(Hibernate.isInitialized(study.getManagers()));
+        assertFalse(Hibernate.isInitialized(study.getMembers()));
+    }
+
+    @DisplayName("같은 요청 안에서는 같은 질문을 다시 조회하지 않는다")
+    @Test
+    void memoizedPerRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertTrue(studyMembershipService.isManager(study, manager));
+        assertTrue(studyMembershipService.isManager(study, manager));
+        assertFalse(studyMembershipService.isJoinable(study, manager));
+
+        assertEquals(1, SqlStatementCollector.countContains("study_managers"));
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertTrue(studyMembershipService.isManager(study, manager));
+        assertEquals(2, SqlStatementCollector.countContains("study_managers"));
+    }
+
+    private Account save(String nickname) {
+        return accountRepository.save(Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@cmd.ccc")
+                .password("12345678")
+                .build());
+    }
+}
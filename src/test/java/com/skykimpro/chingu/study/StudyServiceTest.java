@@ -0,0 +1,135 @@
+package com.skykimpro.chingu.study;
+
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 트랜잭션이 동시에 가입하는 상황이라 테스트 트랜잭션 없이 실제로 커밋하고 정리한다.
+ */
+@SpringBootTest
+class StudyServiceTest {
+
+    static final int JOINS = 1000;
+
+    @Autowired StudyService studyService;
+    @Autowired StudyRepository studyRepository;
+    @Autowired AccountRepository accountRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired DataSource dataSource;
+
+    @AfterEach
+    void afterEach() {
+        studyRepository.deleteAll();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("동시에 가입해도 구성원과 인원 수를 잃지 않는다")
+    @Test
+    void concurrentJoins() throws Exception {
+        Study study = new Study();
+        study.setPath("popular-study");
+        study.setTitle("인기 동아리");
+        study.setPublished(true);
+        study.setPublishedDateTime(LocalDateTime.now());
+        study.setRecruiting(true);
+        Study saved = studyRepository.save(study);
+
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < JOINS; i++) {
+            accounts.add(Account.builder()
+                    .nickname("joiner" + i)
+                    .email("joiner" + i + "@cmd.ccc")
+                    .password("12345678")
+                    .build());
+        }
+        accounts = accountRepository.saveAll(accounts);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> joins = new ArrayList<>();
+            for (Account account : accounts) {
+                joins.add(executor.submit(() -> studyService.addMember(saved, account)));
+            }
+            for (Future<?> join : joins) {
+                join.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(JOINS, studyRepository.findById(saved.getId()).orElseThrow().getMemberCount());
+        assertEquals(JOINS, studyRepository.findMemberIds(saved.getId()).size());
+    }
+
+    @DisplayName("가입과 탈퇴가 계정 2차 캐시를 비우지 않는다")
+    @Test
+    void joinAndLeave_keepAccountCache() {
+        Study study = new Study();
+        study.setPath("cached-study");
+        study.setTitle("캐시 동아리");
+        study.setPublished(true);
+        study.setPublishedDateTime(LocalDateTime.now());
+        study.setRecruiting(true);
+        Study saved = studyRepository.save(study);
+        Account account = accountRepository.save(Account.builder()
+                .nickname("cached")
+                .email("cached@cmd.ccc")
+                .password("12345678")
+                .build());
+        accountRepository.findById(account.getId());
+        assertTrue(entityManagerFactory.getCache().contains(Account.class, account.getId()));
+
+        studyService.addMember(saved, account);
+        assertTrue(entityManagerFactory.getCache().contains(Account.class, account.getId()));
+
+        studyService.removeMember(saved, account);
+        assertTrue(entityManagerFactory.getCache().contains(Account.class, account.getId()));
+    }
+
+    @DisplayName("기존 동아리의 버전과 인원 수를 스크립트로 채운다")
+    @Test
+    void studyCountersScript() {
+        Study study = new Study();
+        study.setPath("old-study");
+        study.setTitle("예전 동아리");
+        study.setPublished(true);
+        study.setPublishedDateTime(LocalDateTime.now());
+        study.setRecruiting(true);
+        Study saved = studyRepository.save(study);
+        Account account = accountRepository.save(Account.builder()
+                .nickname("old-member")
+                .email("old-member@cmd.ccc")
+                .password("12345678")
+                .build());
+        studyService.addMember(saved, account);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("update study set version = null, member_count = 0 where id = ?", saved.getId());
+        new ResourceDatabasePopulator(new ClassPathResource("db/study-counters.sql")).execute(dataSource);
+
+        Study backfilled = studyRepository.findById(saved.getId()).orElseThrow();
+        assertEquals(0L, backfilled.getVersion());
+        assertEquals(1, backfilled.getMemberCount());
+    }
+}
@@ -0,0 +1,82 @@
+package com.skykimpro.chingu.study;
+
+import com.skykimpro.chingu.SqlStatementCollector;
+import com.skykimpro.chingu.WithAccount;
+import com.skykimpro.chingu.account.AccountRepository;
+import com.skykimpro.chingu.domain.Account;
+import com.skykimpro.chingu.domain.Study;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = SqlStatementCollector.PROPERTY)
+@AutoConfigureMockMvc
+@Transactional
+class StudySettingControllerTest {
+
+    static final String PATH = "test-study";
+
+    @Autowired MockMvc mockMvc;
+    @Autowired StudyService studyService;
+    @Autowired AccountRepository accountRepository;
+    @Autowired EntityManager entityManager;
+
+    @BeforeEach
+    void beforeEach() {
+        Account kja = accountRepository.findByNickname("KJA");
+        Study study = new Study();
+        study.setPath(PATH);
+        study.setTitle("테스트 동아리");
+        study.setShortDescription("짧은 소개");
+        study.setFullDescription("<p>긴 소개</p>");
+        studyService.createNewStudy(study, kja);
+
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCollector.clear();
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("동아리 설정 화면 - 상세 소개는 소개 수정 화면에서만 읽는다")
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"description", "banner", "tags", "zones", "study"})
+    void settingsForm_reads_full_description_only_for_description(String menu) throws Exception {
+        mockMvc.perform(get("/study/" + PATH + "/settings/" + menu))
+                .andExpect(status().isOk())
+                .andExpect(view().name("study/settings/" + menu))
+                .andExpect(model().attributeExists("account"))
+                .andExpect(model().attributeExists("study"));
+
+        assertEquals(menu.equals("description"), SqlStatementCollector.anyContains("full_description"));
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("배너 이미지 수정 - 형식이 올바르지 않으면 메시지와 함께 되돌아간다")
+    @Test
+    void studyImage_invalid() throws Exception {
+        mockMvc.perform(post("/study/" + PATH + "/settings/banner")
+                .param("image", "data:image/png;base64,%%%")
+                .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/study/" + PATH + "/settings/banner"))
+                .andExpect(flash().attributeExists("message"));
+
+        entityManager.clear();
+        assertEquals("/images/default_banner.png", studyService.getStudy(PATH).getImage());
+    }
+}
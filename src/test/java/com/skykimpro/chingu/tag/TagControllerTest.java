@@ -0,0 +1,67 @@
+package com.skykimpro.chingu.tag;
+
+import com.skykimpro.chingu.WithAccount;
+import com.skykimpro.chingu.account.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TagControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired TagService tagService;
+    @Autowired AccountRepository accountRepository;
+
+    @AfterEach
+    void afterEach() {
+        accountRepository.deleteAll();
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("태그 검색 - 커밋된 새 태그가 prefix 검색에 나온다")
+    @Test
+    void searchTags() throws Exception {
+        tagService.findOrCreateNew("Spring");
+        tagService.findOrCreateNew("spring-boot");
+        tagService.findOrCreateNew("JPA");
+
+        mockMvc.perform(get("/tags/search").param("prefix", "spr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0]").value("Spring"))
+                .andExpect(jsonPath("$[1]").value("spring-boot"));
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("태그 검색 - 결과 개수 제한")
+    @Test
+    void searchTags_limited() throws Exception {
+        for (int i = 0; i < TagController.MAX_SEARCH_SIZE + 5; i++) {
+            tagService.findOrCreateNew("limit" + i);
+        }
+
+        mockMvc.perform(get("/tags/search").param("prefix", "limit").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(TagController.MAX_SEARCH_SIZE)));
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("태그 검색 - 빈 prefix")
+    @Test
+    void searchTags_blank() throws Exception {
+        mockMvc.perform(get("/tags/search").param("prefix", " "))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+}
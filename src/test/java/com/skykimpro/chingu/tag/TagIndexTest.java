@@ -0,0 +1,29 @@
+package com.skykimpro.chingu.tag;
+
+import com.skykimpro.chingu.domain.Tag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TagIndexTest {
+
+    TagIndex tagIndex = new TagIndex(null);
+
+    @DisplayName("대소문자만 다른 태그도 prefix 검색에 모두 나온다")
+    @Test
+    void search_ignoresCase() {
+        tagIndex.put(Tag.builder().id(1L).title("Spring").build());
+        tagIndex.put(Tag.builder().id(2L).title("spring").build());
+        tagIndex.put(Tag.builder().id(3L).title("SPRING-BOOT").build());
+        tagIndex.put(Tag.builder().id(4L).title("java").build());
+
+        List<String> expected = List.of("Spring", "spring", "SPRING-BOOT");
+        assertEquals(expected, tagIndex.search("spring", 10));
+        assertEquals(expected, tagIndex.search("Spring", 10));
+        assertEquals(expected, tagIndex.search("sPr", 10));
+        assertEquals(List.of("Spring", "spring"), tagIndex.search("spring", 2));
+    }
+}
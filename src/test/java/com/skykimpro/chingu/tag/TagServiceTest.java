@@ -0,0 +1,65 @@
+package com.skykimpro.chingu.tag;
+
+import com.skykimpro.chingu.domain.Tag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TagServiceTest {
+
+    @Autowired TagService tagService;
+    @Autowired TagRepository tagRepository;
+    @Autowired TagIndex tagIndex;
+
+    @DisplayName("여러 태그를 한 번에 찾거나 만든다")
+    @Test
+    void findOrCreateAll() {
+        Tag existing = tagService.findOrCreateNew("bulk-existing");
+
+        List<Tag> tags = tagService.findOrCreateAll(List.of("bulk-new", "bulk-existing", "bulk-new"));
+
+        assertEquals(2, tags.size());
+        assertEquals("bulk-new", tags.get(0).getTitle());
+        assertEquals(existing.getId(), tags.get(1).getId());
+        assertNotNull(tagRepository.findByTitle("bulk-new"));
+        assertEquals(tags.get(0).getId(), tagIndex.getId("bulk-new"));
+    }
+
+    @DisplayName("같은 태그를 동시에 추가해도 하나만 만들어진다")
+    @Test
+    void findOrCreateNew_concurrently() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<CompletableFuture<Long>> futures = IntStream.range(0, threads)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                        return tagService.findOrCreateNew("concurrent").getId();
+                    }, executor))
+                    .collect(Collectors.toList());
+            start.countDown();
+
+            List<Long> ids = futures.stream().map(CompletableFuture::join).distinct().collect(Collectors.toList());
+            assertEquals(1, ids.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
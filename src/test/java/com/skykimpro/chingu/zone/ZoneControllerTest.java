@@ -0,0 +1,52 @@
+package com.skykimpro.chingu.zone;
+
+import com.skykimpro.chingu.WithAccount;
+import com.skykimpro.chingu.account.AccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ZoneControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ZoneService zoneService;
+    @Autowired AccountRepository accountRepository;
+
+    @AfterEach
+    void afterEach() {
+        accountRepository.deleteAll();
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("지역 whitelist 조회 - ETag와 캐시 헤더")
+    @Test
+    void whitelist() throws Exception {
+        mockMvc.perform(get("/zones/whitelist"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(containsString("Andong(안동시)/North Gyeongsang")))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + zoneService.getWhitelistETag() + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public"));
+    }
+
+    @WithAccount("KJA")
+    @DisplayName("지역 whitelist 조회 - 변경되지 않은 목록")
+    @Test
+    void whitelist_not_modified() throws Exception {
+        mockMvc.perform(get("/zones/whitelist")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + zoneService.getWhitelistETag() + "\""))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,60 @@
+package com.skykimpro.chingu.zone;
+
+import com.skykimpro.chingu.domain.DatasetChecksum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class ZoneDataLoaderTest {
+
+    @Autowired ZoneDataLoader zoneDataLoader;
+    @Autowired ZoneRepository zoneRepository;
+    @Autowired DatasetChecksumRepository checksumRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void beforeEach() {
+        zoneDataLoader.whenLoaded().join();
+    }
+
+    @DisplayName("시작할 때 지역 정보를 모두 넣고 체크섬을 남긴다")
+    @Test
+    void loaded() {
+        assertEquals(85, zoneRepository.count());
+        assertNotNull(zoneRepository.findByCityAndProvince("Andong", "North Gyeongsang"));
+        assertTrue(checksumRepository.existsById(ZoneDataLoader.DATASET));
+    }
+
+    @DisplayName("체크섬이 같으면 아무것도 하지 않는다")
+    @Test
+    void load_unchanged() {
+        jdbcTemplate.update("delete from zone where city = 'Andong'");
+
+        zoneDataLoader.load();
+
+        assertEquals(84, zoneRepository.count());
+    }
+
+    @DisplayName("체크섬이 다르면 없는 지역만 추가한다")
+    @Test
+    void load_changed() {
+        jdbcTemplate.update("delete from zone where city = 'Andong'");
+        checksumRepository.save(new DatasetChecksum(ZoneDataLoader.DATASET, "stale", LocalDateTime.now()));
+
+        zoneDataLoader.load();
+
+        assertEquals(85, zoneRepository.count());
+        assertNotNull(zoneRepository.findByCityAndProvince("Andong", "North Gyeongsang"));
+        assertNotEquals("stale", checksumRepository.findById(ZoneDataLoader.DATASET).orElseThrow().getChecksum());
+    }
+}
@@ -0,0 +1,51 @@
+package com.skykimpro.chingu.zone;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skykimpro.chingu.domain.Zone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ZoneServiceTest {
+
+    ZoneRepository zoneRepository = mock(ZoneRepository.class);
+    ZoneDataLoader zoneDataLoader = mock(ZoneDataLoader.class);
+    ZoneService zoneService = new ZoneService(zoneRepository, new ObjectMapper(), zoneDataLoader);
+
+    Zone andong = Zone.builder().city("Andong").localNameOfCity("안동시").province("North Gyeongsang").build();
+
+    @DisplayName("지역 정보를 넣지 못해도 테이블에 있는 지역 정보로 조회한다")
+    @Test
+    void loaderFailed() {
+        given(zoneDataLoader.whenLoaded()).willReturn(CompletableFuture.failedFuture(new IllegalStateException("csv")));
+        given(zoneRepository.findAll()).willReturn(List.of(andong));
+
+        zoneService.initZoneData();
+
+        assertNotNull(zoneService.getZone("Andong", "North Gyeongsang"));
+    }
+
+    @DisplayName("메모리에 올리지 못했으면 다음 조회에서 다시 읽는다")
+    @Test
+    void loadZonesFailed() {
+        given(zoneDataLoader.whenLoaded()).willReturn(CompletableFuture.completedFuture(null));
+        given(zoneRepository.findAll())
+                .willThrow(new DataAccessResourceFailureException("db down"))
+                .willThrow(new DataAccessResourceFailureException("db down"))
+                .willReturn(List.of(andong));
+
+        zoneService.initZoneData();
+
+        assertThrows(DataAccessResourceFailureException.class, () -> zoneService.getZone("Andong", "North Gyeongsang"));
+        assertNotNull(zoneService.getZone("Andong", "North Gyeongsang"));
+        assertNotNull(zoneService.getWhitelist());
+    }
+}